@@ -0,0 +1,35 @@
+package com.upskill.blob_storage_app.dto;
+
+import lombok.Getter;
+
+@Getter
+public class BatchUploadResult {
+    // What clients see instead of the underlying exception; details are only logged
+    public enum ErrorCode {
+        CONTENT_UNREADABLE,
+        STORAGE_UNAVAILABLE,
+        INTERNAL_ERROR
+    }
+
+    private final String filename;
+    private final String blobId;
+    private final ErrorCode error;
+
+    private BatchUploadResult(String filename, String blobId, ErrorCode error) {
+        this.filename = filename;
+        this.blobId = blobId;
+        this.error = error;
+    }
+
+    public static BatchUploadResult succeeded(String filename, String blobId) {
+        return new BatchUploadResult(filename, blobId, null);
+    }
+
+    public static BatchUploadResult failed(String filename, ErrorCode error) {
+        return new BatchUploadResult(filename, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,90 @@
+package com.upskill.blob_storage_app.dto;
+
+import com.upskill.blob_storage_app.exception.BlobStorageException;
+import com.upskill.blob_storage_app.io.DecodedBlobContent;
+import com.upskill.blob_storage_app.io.VerifiedBlobContent;
+import com.upskill.blob_storage_app.port.output.BlobContent;
+import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.port.output.ReactiveBlobStorageStrategyFactory;
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * An authorized download. Metadata is resolved up front; the content is only opened
+ * when the caller is ready to stream it. Compressed blobs are decoded on the way out unless
+ * the caller asks for the stored encoding, which clients accepting it can be sent as-is.
+ * With verification on, whole-blob reads are checked against the stored checksum.
+ */
+@Getter
+@Builder
+public class BlobDownload {
+    private final String blobId;
+    private final String filename;
+    private final String contentType;
+    private final long size;
+    private final Instant lastModified;
+    private final CompressionCodec compressionCodec;
+    // Length of the stored encoding; equals size when uncompressed
+    private final long storedSize;
+    // SHA-256 of the decoded content; null for blobs stored without one
+    private final String contentHash;
+
+    @Getter(AccessLevel.NONE)
+    private final boolean verifyContent;
+
+    @Getter(AccessLevel.NONE)
+    private final BlobStoragePort storage;
+    @Getter(AccessLevel.NONE)
+    private final String storageLocation;
+    @Getter(AccessLevel.NONE)
+    private final StorageProvider storageProvider;
+
+    public BlobContent open() {
+        BlobContent content = isCompressed() ? decode(0, size) : storage.download(storageLocation, storageProvider);
+        return verifyContent && contentHash != null ? new VerifiedBlobContent(content, contentHash) : content;
+    }
+
+    public BlobContent open(long offset, long length) {
+        if (!isCompressed()) {
+            return storage.download(storageLocation, offset, length, storageProvider);
+        }
+        return decode(offset, Math.min(length, size - offset));
+    }
+
+    // The bytes exactly as stored, in the blob's compression codec
+    public BlobContent openEncoded() {
+        return storage.download(storageLocation, storageProvider);
+    }
+
+    // Blobs never change, so the checksum, or the id for blobs without one, is a strong
+    // validator. The stored encoding is a different representation and gets a tag of its own.
+    public String getETag(boolean encoded) {
+        String tag = contentHash != null ? contentHash : blobId;
+        return "\"" + (encoded ? tag + "-" + compressionCodec.getContentEncoding() : tag) + "\"";
+    }
+
+    public boolean isCompressed() {
+        return compressionCodec != null && compressionCodec != CompressionCodec.NONE;
+    }
+
+    // Streams the stored encoding through the non-blocking adapter for its provider
+    public Flux<DataBuffer> stream(ReactiveBlobStorageStrategyFactory reactiveStorage) {
+        return reactiveStorage.getStrategy(storageProvider).download(storageLocation, storageProvider);
+    }
+
+    private BlobContent decode(long offset, long length) {
+        try {
+            return new DecodedBlobContent(storage.download(storageLocation, storageProvider), compressionCodec, offset, length);
+        } catch (IOException e) {
+            throw new BlobStorageException("Failed to decode " + compressionCodec + " content of blob " + blobId, e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.upskill.blob_storage_app.dto;
+
+import com.upskill.blob_storage_app.entity.OutboxEvent;
+import com.upskill.blob_storage_app.valueobject.BlobEventType;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A committed blob change as delivered to {@link com.upskill.blob_storage_app.port.output.BlobEventListener}s.
+ * The id is stable across redeliveries, so listeners can use it to drop duplicates.
+ */
+@Getter
+@Builder
+public class BlobEvent {
+    private final UUID id;
+    private final BlobEventType type;
+    private final String blobId;
+    private final UUID userId;
+    private final StorageProvider storageProvider;
+    private final String storageLocation;
+    private final Long size;
+    private final String contentHash;
+    private final Instant occurredAt;
+
+    public static BlobEvent of(OutboxEvent event) {
+        return BlobEvent.builder()
+                .id(event.getId())
+                .type(event.getType())
+                .blobId(event.getBlobId())
+                .userId(event.getUserId())
+                .storageProvider(event.getStorageProvider())
+                .storageLocation(event.getStorageLocation())
+                .size(event.getSize())
+                .contentHash(event.getContentHash())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.upskill.blob_storage_app.dto;
+
+import com.upskill.blob_storage_app.entity.Blob;
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the blob columns needed to authorize and locate a blob, safe to share
+ * across threads and to keep after the persistence context is gone.
+ */
+@Getter
+@Builder
+public class BlobMetadata {
+    private final String blobId;
+    private final UUID ownerId;
+    private final StorageProvider storageProvider;
+    private final String storageLocation;
+    private final long size;
+    private final String contentType;
+    private final String filename;
+    private final Instant lastModified;
+    private final String contentHash;
+    private final CompressionCodec compressionCodec;
+    private final long storedSize;
+
+    public static BlobMetadata of(Blob blob) {
+        return BlobMetadata.builder()
+                .blobId(blob.getBlobId().getValue())
+                .ownerId(blob.getUser().getId())
+                .storageProvider(blob.getStorageProvider())
+                .storageLocation(blob.getStorageLocation())
+                .size(blob.getSize())
+                .contentType(blob.getContentType())
+                .filename(blob.getFilename())
+                .lastModified(blob.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant())
+                .contentHash(blob.getContentHash())
+                .compressionCodec(blob.getCompressionCodec())
+                .storedSize(blob.getStoredSize())
+                .build();
+    }
+
+    public boolean isOwnedBy(UUID userId) {
+        return ownerId.equals(userId);
+    }
+}
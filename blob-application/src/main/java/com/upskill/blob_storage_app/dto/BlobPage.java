@@ -0,0 +1,17 @@
+package com.upskill.blob_storage_app.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BlobPage {
+    private final List<String> blobIds;
+    // null on the last page
+    private final String nextCursor;
+
+    public BlobPage(List<String> blobIds, String nextCursor) {
+        this.blobIds = blobIds;
+        this.nextCursor = nextCursor;
+    }
+}
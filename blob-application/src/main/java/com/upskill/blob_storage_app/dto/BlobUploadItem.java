@@ -0,0 +1,18 @@
+package com.upskill.blob_storage_app.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.core.io.InputStreamSource;
+
+/**
+ * One file of a batch upload. The content is opened by the worker that stores it, so a batch
+ * never holds more open streams than it has writes in flight.
+ */
+@Getter
+@Builder
+public class BlobUploadItem {
+    private final String filename;
+    // -1 when the size is not known up front
+    private final long contentLength;
+    private final InputStreamSource content;
+}
@@ -0,0 +1,20 @@
+package com.upskill.blob_storage_app.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a bulk delete. Blobs whose content could not be deleted keep their metadata and
+ * are reported in {@code failed}, so the delete can simply be retried for them.
+ */
+@Getter
+public class BulkDeleteResult {
+    private final List<String> deleted = new ArrayList<>();
+    // Unknown ids and ids owned by someone else are indistinguishable to the caller
+    private final List<String> notFound = new ArrayList<>();
+    private final Map<String, String> failed = new LinkedHashMap<>();
+}
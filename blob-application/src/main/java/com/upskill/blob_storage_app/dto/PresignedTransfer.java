@@ -0,0 +1,20 @@
+package com.upskill.blob_storage_app.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * A request the client sends straight to storage. For chunk uploads, offset and length say
+ * which bytes of the file the URL takes; the body must be exactly that long.
+ */
+@Getter
+@Builder
+public class PresignedTransfer {
+    private final String url;
+    private final String method;
+    private final long offset;
+    private final long length;
+    private final Instant expiresAt;
+}
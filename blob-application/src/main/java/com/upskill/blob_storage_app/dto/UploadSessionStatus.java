@@ -0,0 +1,57 @@
+package com.upskill.blob_storage_app.dto;
+
+import com.upskill.blob_storage_app.entity.UploadSession;
+import com.upskill.blob_storage_app.entity.UploadSessionPart;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What a client needs to resume an upload session: how to cut the content into chunks and
+ * which byte ranges the server already holds.
+ */
+@Getter
+@Builder
+public class UploadSessionStatus {
+    private final String sessionId;
+    private final String filename;
+    private final long size;
+    private final long chunkSize;
+    private final int chunkCount;
+    private final long receivedBytes;
+    // First and last byte of each stored stretch, inclusive; adjacent chunks are merged
+    private final List<ReceivedRange> received;
+    private final Instant expiresAt;
+
+    public record ReceivedRange(long start, long end) {
+    }
+
+    public static UploadSessionStatus of(UploadSession session, List<UploadSessionPart> parts) {
+        List<ReceivedRange> received = new ArrayList<>();
+        long receivedBytes = 0;
+        for (UploadSessionPart part : parts) {
+            long start = (part.getPartNumber() - 1) * session.getChunkSize();
+            long end = start + part.getSize() - 1;
+            receivedBytes += part.getSize();
+            ReceivedRange last = received.isEmpty() ? null : received.get(received.size() - 1);
+            if (last != null && last.end() + 1 == start) {
+                received.set(received.size() - 1, new ReceivedRange(last.start(), end));
+            } else {
+                received.add(new ReceivedRange(start, end));
+            }
+        }
+        return UploadSessionStatus.builder()
+                .sessionId(session.getId().toString())
+                .filename(session.getFilename())
+                .size(session.getSize())
+                .chunkSize(session.getChunkSize())
+                .chunkCount(session.getChunkCount())
+                .receivedBytes(receivedBytes)
+                .received(received)
+                .expiresAt(session.getExpiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.upskill.blob_storage_app.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Compresses another stream as it is read, so encoders that only come as an
+ * {@link OutputStream} can feed storage adapters that pull their content. Holds one chunk
+ * of input and whatever the encoder produced from it, never the whole upload.
+ */
+public class CompressingInputStream extends InputStream {
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final InputStream source;
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+    private final Buffer encoded = new Buffer();
+    private final OutputStream encoder;
+    private int position;
+    private boolean finished;
+
+    @FunctionalInterface
+    public interface Encoder {
+        OutputStream wrap(OutputStream out) throws IOException;
+    }
+
+    public CompressingInputStream(InputStream source, Encoder encoder) throws IOException {
+        this.source = source;
+        this.encoder = encoder.wrap(encoded);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        // Encoders buffer internally, so a chunk of input may produce no output yet
+        while (position == encoded.size()) {
+            if (finished) {
+                return -1;
+            }
+            fill();
+        }
+        int n = Math.min(len, encoded.size() - position);
+        System.arraycopy(encoded.bytes(), position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    private void fill() throws IOException {
+        encoded.reset();
+        position = 0;
+        int n = source.read(chunk);
+        if (n == -1) {
+            // Closing the encoder flushes its trailer into the buffer
+            encoder.close();
+            finished = true;
+        } else {
+            encoder.write(chunk, 0, n);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!finished) {
+                finished = true;
+                encoder.close();
+            }
+        } finally {
+            source.close();
+        }
+    }
+
+    private static class Buffer extends ByteArrayOutputStream {
+        Buffer() {
+            super(CHUNK_SIZE);
+        }
+
+        byte[] bytes() {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.upskill.blob_storage_app.io;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoder and decoder streams for each {@link CompressionCodec}. Both directions stream, so
+ * neither side ever holds a whole blob.
+ */
+public final class CompressionStreams {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private CompressionStreams() {
+    }
+
+    public static OutputStream encoder(OutputStream out, CompressionCodec codec, int level) throws IOException {
+        return switch (codec) {
+            case NONE -> out;
+            case GZIP -> new LeveledGzipOutputStream(out, level);
+            case ZSTD -> new ZstdOutputStream(out, level);
+        };
+    }
+
+    public static InputStream decoder(InputStream in, CompressionCodec codec) throws IOException {
+        return switch (codec) {
+            case NONE -> in;
+            case GZIP -> new GZIPInputStream(in, BUFFER_SIZE);
+            case ZSTD -> new ZstdInputStream(in);
+        };
+    }
+
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.upskill.blob_storage_app.io;
+
+import com.upskill.blob_storage_app.port.output.BlobContent;
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The decompressed view of stored content, optionally narrowed to a range of it. Compressed
+ * formats can't seek, so a range is served by decoding and discarding everything before it.
+ */
+public class DecodedBlobContent implements BlobContent {
+    private final BlobContent stored;
+    private final InputStream decoded;
+    private final long offset;
+    private final long length;
+
+    public DecodedBlobContent(BlobContent stored, CompressionCodec codec, long offset, long length) throws IOException {
+        this.stored = stored;
+        try {
+            this.decoded = CompressionStreams.decoder(stored.getInputStream(), codec);
+        } catch (IOException | RuntimeException e) {
+            stored.close();
+            throw e;
+        }
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public long getContentLength() {
+        return length;
+    }
+
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+        return getInputStream().transferTo(out);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        decoded.skipNBytes(offset);
+        return new LimitedInputStream(decoded, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            decoded.close();
+        } finally {
+            stored.close();
+        }
+    }
+}
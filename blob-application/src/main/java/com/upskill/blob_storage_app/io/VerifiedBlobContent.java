@@ -0,0 +1,66 @@
+package com.upskill.blob_storage_app.io;
+
+import com.upskill.blob_storage_app.port.output.BlobContent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+
+/**
+ * Checks content against its stored checksum while it streams. The hash is only known once
+ * the last byte has been read, so a mismatch surfaces as an IOException at the end of the
+ * stream, which aborts the response instead of completing it with corrupt bytes.
+ */
+public class VerifiedBlobContent implements BlobContent {
+    private final BlobContent content;
+    private final String expectedHash;
+
+    public VerifiedBlobContent(BlobContent content, String expectedHash) {
+        this.content = content;
+        this.expectedHash = expectedHash;
+    }
+
+    @Override
+    public long getContentLength() {
+        return content.getContentLength();
+    }
+
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+        return getInputStream().transferTo(out);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return new DigestInputStream(content.getInputStream(), ContentHash.newDigest()) {
+            private boolean verified;
+
+            @Override
+            public int read() throws IOException {
+                return verifyAtEnd(super.read());
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return verifyAtEnd(super.read(b, off, len));
+            }
+
+            private int verifyAtEnd(int result) throws IOException {
+                if (result == -1 && !verified) {
+                    verified = true;
+                    String actualHash = ContentHash.toHex(getMessageDigest());
+                    if (!actualHash.equals(expectedHash)) {
+                        throw new IOException("Stored content hashes to " + actualHash + ", expected " + expectedHash);
+                    }
+                }
+                return result;
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        content.close();
+    }
+}
@@ -0,0 +1,8 @@
+package com.upskill.blob_storage_app.port.input;
+
+import java.util.UUID;
+
+public interface ApiKeyUseCase {
+    // Deactivates one of the user's keys; requests presenting it are rejected once this returns
+    void revokeApiKey(UUID userId, UUID keyId);
+}
@@ -0,0 +1,13 @@
+package com.upskill.blob_storage_app.port.input;
+
+import com.upskill.blob_storage_app.dto.BatchUploadResult;
+import com.upskill.blob_storage_app.dto.BlobUploadItem;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface BlobBatchUseCase {
+    // One result per item, in request order; a failed item does not fail the others
+    List<BatchUploadResult> uploadBlobs(UUID userId, List<BlobUploadItem> items, StorageProvider provider);
+}
@@ -1,12 +1,29 @@
 package com.upskill.blob_storage_app.port.input;
 
+import com.upskill.blob_storage_app.dto.BlobDownload;
+import com.upskill.blob_storage_app.dto.BlobPage;
+import com.upskill.blob_storage_app.dto.BulkDeleteResult;
+import com.upskill.blob_storage_app.dto.PresignedTransfer;
+import com.upskill.blob_storage_app.query.ListBlobsQuery;
 import com.upskill.blob_storage_app.valueobject.StorageProvider;
+
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
 public interface BlobUseCase {
-    String uploadBlob(UUID userId, byte[] content, String filename, StorageProvider provider);
-    byte[] downloadBlob(UUID userId, String blobId, StorageProvider provider);
+    String uploadBlob(UUID userId, InputStream content, long contentLength, String filename, StorageProvider provider);
+    // Records a blob whose content an adapter has already written to storageLocation
+    String registerBlob(UUID userId, String filename, String contentType, long size, StorageProvider provider,
+                        String storageLocation, String contentHash);
+    // Hands stored content that will never be registered to the garbage collector
+    void discardContent(StorageProvider provider, String storageLocation);
+    BlobDownload downloadBlob(UUID userId, String blobId, StorageProvider provider);
+    // A time-limited URL that serves the blob from storage without passing through this service
+    PresignedTransfer presignDownload(UUID userId, String blobId, StorageProvider provider);
     void deleteBlob(UUID userId, String blobId, StorageProvider provider);
-    List<String> listBlobs(UUID userId, StorageProvider provider);
-} 
\ No newline at end of file
+    BulkDeleteResult deleteBlobs(UUID userId, List<String> blobIds);
+    // Deletes every blob of the user whose filename starts with filenamePrefix
+    BulkDeleteResult deleteBlobsByFilenamePrefix(UUID userId, String filenamePrefix);
+    BlobPage listBlobs(ListBlobsQuery query);
+}
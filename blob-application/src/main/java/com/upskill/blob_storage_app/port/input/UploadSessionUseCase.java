@@ -0,0 +1,23 @@
+package com.upskill.blob_storage_app.port.input;
+
+import com.upskill.blob_storage_app.dto.PresignedTransfer;
+import com.upskill.blob_storage_app.dto.UploadSessionStatus;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+public interface UploadSessionUseCase {
+    UploadSessionStatus createSession(UUID userId, String filename, String contentType, long size, StorageProvider provider);
+    // offset must be a multiple of the session's chunk size; chunks may arrive in any order and be re-sent
+    UploadSessionStatus uploadChunk(UUID userId, UUID sessionId, long offset, InputStream content, long contentLength);
+    UploadSessionStatus getSession(UUID userId, UUID sessionId);
+    // URLs for sending up to count chunks from offset on straight to storage instead of through uploadChunk
+    List<PresignedTransfer> presignChunks(UUID userId, UUID sessionId, long offset, int count);
+    // Assembles the chunks into a blob and returns its id; fails while any chunk is missing. Chunks
+    // sent through presigned URLs are not seen here, so partTags lists the ETag storage returned
+    // for each chunk in order; null uses the chunks received through uploadChunk.
+    String completeSession(UUID userId, UUID sessionId, List<String> partTags);
+    void abortSession(UUID userId, UUID sessionId);
+}
@@ -0,0 +1,14 @@
+package com.upskill.blob_storage_app.port.output;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface BlobContent extends Closeable {
+    long getContentLength();
+    long transferTo(OutputStream out) throws IOException;
+    // Pull access for callers that transform the bytes rather than copy them, such as decompression.
+    // Use either this or transferTo, once.
+    InputStream getInputStream() throws IOException;
+}
@@ -0,0 +1,14 @@
+package com.upskill.blob_storage_app.port.output;
+
+import com.upskill.blob_storage_app.dto.BlobEvent;
+
+import java.util.List;
+
+/**
+ * Receives committed blob changes from the outbox dispatcher, off the request path. Delivery is
+ * at least once and batches are not ordered across dispatcher instances, so implementations
+ * must be idempotent. Throwing redelivers the whole batch later.
+ */
+public interface BlobEventListener {
+    void onBlobEvents(List<BlobEvent> events);
+}
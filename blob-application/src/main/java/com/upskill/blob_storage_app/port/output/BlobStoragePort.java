@@ -1,13 +1,78 @@
 package com.upskill.blob_storage_app.port.output;
 
+import com.upskill.blob_storage_app.exception.UnsupportedStorageOperationException;
 import com.upskill.blob_storage_app.valueobject.StorageProvider;
 
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface BlobStoragePort {
-    String upload(byte[] content, String filename, String contentType, StorageProvider provider);
-    byte[] download(String location, StorageProvider provider);
+    // contentLength is -1 when the size is not known up front
+    String upload(InputStream content, long contentLength, String filename, String contentType, StorageProvider provider);
+    // Writes to a caller-chosen location, replacing whatever is stored there
+    void uploadTo(String location, InputStream content, long contentLength, String contentType, StorageProvider provider);
+    BlobContent download(String location, StorageProvider provider);
+    BlobContent download(String location, long offset, long length, StorageProvider provider);
     void delete(String location, StorageProvider provider);
-    List<String> list(String prefix, StorageProvider provider);
+
+    // Deletes many objects, continuing past individual failures. Returns location -> error for
+    // every location that could not be deleted; an empty map means all were removed.
+    default Map<String, String> deleteAll(List<String> locations, StorageProvider provider) {
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (String location : locations) {
+            try {
+                delete(location, provider);
+            } catch (RuntimeException e) {
+                failures.put(location, e.getMessage());
+            }
+        }
+        return failures;
+    }
+    // Lazily pages through the keys under prefix; with a delimiter, keys below the next delimiter
+    // are rolled up into one "directory" entry ending in it. Close the stream to stop paging.
+    Stream<String> streamKeys(String prefix, String delimiter, StorageProvider provider);
+
+    // Materializes every key under prefix; prefer streamKeys for anything unbounded
+    default List<String> list(String prefix, StorageProvider provider) {
+        try (Stream<String> keys = streamKeys(prefix, null, provider)) {
+            return keys.toList();
+        }
+    }
     String generatePresignedUrl(String location, StorageProvider provider, long expirationMinutes);
-} 
\ No newline at end of file
+
+    // Presigned URLs let clients move content to and from storage without it passing through
+    // this service. A download URL answers with the blob's filename, content type and encoding.
+    default String presignDownload(StoredObject object, Duration expiry, StorageProvider provider) {
+        return generatePresignedUrl(object.location(), provider, expiry.toMinutes());
+    }
+
+    // The URL only accepts a body of exactly contentLength bytes and returns the part's tag as ETag
+    default String presignPart(StagedUpload upload, int partNumber, long contentLength, Duration expiry, StorageProvider provider) {
+        throw new UnsupportedStorageOperationException("Presigned part uploads", provider);
+    }
+
+    // Staged uploads write the parts of one object independently, in any order, and join them in
+    // part-number order on completion. Parts are numbered from 1; all but the last must be at least
+    // the provider's minimum part size. Providers without them answer 501 through the defaults.
+    default StagedUpload beginStaged(String filename, String contentType, StorageProvider provider) {
+        throw new UnsupportedStorageOperationException("Staged uploads", provider);
+    }
+
+    // Replaces any earlier copy of the part; returns the tag completeStaged needs for it
+    default String uploadPart(StagedUpload upload, int partNumber, InputStream content, long contentLength, StorageProvider provider) {
+        throw new UnsupportedStorageOperationException("Staged uploads", provider);
+    }
+
+    default void completeStaged(StagedUpload upload, List<String> partTags, StorageProvider provider) {
+        throw new UnsupportedStorageOperationException("Staged uploads", provider);
+    }
+
+    // Discards every part; aborting an upload that is already gone is not an error
+    default void abortStaged(StagedUpload upload, StorageProvider provider) {
+        throw new UnsupportedStorageOperationException("Staged uploads", provider);
+    }
+}
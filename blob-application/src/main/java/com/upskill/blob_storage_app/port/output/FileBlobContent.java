@@ -0,0 +1,96 @@
+package com.upskill.blob_storage_app.port.output;
+
+import com.upskill.blob_storage_app.io.LimitedInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Content backed by a file on local disk. Transfers go through {@link FileChannel#transferTo}
+ * so the kernel does the copy where the target allows it, and the path is exposed so the web
+ * layer can hand the file to the container's sendfile support instead. Files that may be deleted
+ * while still being served, such as cache entries, are opened {@link #evictable} and only ever
+ * read through the channel already held open, which outlives the unlink.
+ */
+public class FileBlobContent implements BlobContent {
+    private final Path path;
+    private final FileChannel channel;
+    private final long offset;
+    private final long length;
+    private final boolean evictable;
+
+    public FileBlobContent(Path path) throws IOException {
+        this(path, 0, Long.MAX_VALUE);
+    }
+
+    public FileBlobContent(Path path, long offset, long length) throws IOException {
+        this(path, offset, length, false);
+    }
+
+    private FileBlobContent(Path path, long offset, long length, boolean evictable) throws IOException {
+        this.path = path;
+        this.evictable = evictable;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        long size = channel.size();
+        if (offset > size) {
+            channel.close();
+            throw new IOException("Offset " + offset + " is beyond the end of " + path);
+        }
+        this.offset = offset;
+        this.length = Math.min(length, size - offset);
+    }
+
+    public static FileBlobContent evictable(Path path, long offset, long length) throws IOException {
+        return new FileBlobContent(path, offset, length, true);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    // True when the path may be gone by the time anything other than this instance reopens it
+    public boolean isEvictable() {
+        return evictable;
+    }
+
+    @Override
+    public long getContentLength() {
+        return length;
+    }
+
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+        WritableByteChannel target = Channels.newChannel(out);
+        long end = offset + length;
+        long position = offset;
+        while (position < end) {
+            long transferred = channel.transferTo(position, end - position, target);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+        }
+        return position - offset;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        channel.position(offset);
+        return new LimitedInputStream(Channels.newInputStream(channel), length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,14 @@
+package com.upskill.blob_storage_app.port.output;
+
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Non-blocking counterpart of BlobStoragePort for the reactive edge. Content flows as DataBuffers
+// with backpressure in both directions; the side that consumes a buffer releases it.
+public interface ReactiveBlobStoragePort {
+    // contentLength is required: the content is never buffered to find out its size
+    Mono<String> upload(Flux<DataBuffer> content, long contentLength, String filename, String contentType, StorageProvider provider);
+    Flux<DataBuffer> download(String location, StorageProvider provider);
+}
@@ -0,0 +1,7 @@
+package com.upskill.blob_storage_app.port.output;
+
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+
+public interface ReactiveBlobStorageStrategyFactory {
+    ReactiveBlobStoragePort getStrategy(StorageProvider provider);
+}
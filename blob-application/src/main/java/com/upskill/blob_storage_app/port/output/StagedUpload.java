@@ -0,0 +1,8 @@
+package com.upskill.blob_storage_app.port.output;
+
+/**
+ * An object being assembled from separately uploaded parts: where it will be stored once
+ * complete, and the provider's handle for the parts staged so far.
+ */
+public record StagedUpload(String location, String stagingId) {
+}
@@ -0,0 +1,13 @@
+package com.upskill.blob_storage_app.port.output;
+
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
+
+import java.time.Instant;
+
+/**
+ * What a presigned download serves: the stored object and the blob metadata its response
+ * carries. size is the decoded size, which differs from the stored one for compressed objects.
+ */
+public record StoredObject(String location, String filename, String contentType, CompressionCodec compressionCodec,
+                           long size, Instant lastModified) {
+}
@@ -0,0 +1,48 @@
+package com.upskill.blob_storage_app.query;
+
+import com.upskill.blob_storage_app.exception.InvalidCursorException;
+import com.upskill.blob_storage_app.repository.BlobKey;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a user's blob listing: the (createdAt, id) of the last blob returned. Encoded as
+ * URL-safe base64 so clients treat it as opaque and the sort key can change without breaking
+ * the API.
+ */
+@Getter
+public class BlobCursor {
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    private BlobCursor(LocalDateTime createdAt, UUID id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static BlobCursor after(BlobKey key) {
+        return new BlobCursor(key.createdAt(), key.id());
+    }
+
+    public static BlobCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new BlobCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
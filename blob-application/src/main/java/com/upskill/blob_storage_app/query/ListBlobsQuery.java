@@ -1,5 +1,6 @@
 package com.upskill.blob_storage_app.query;
 
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,6 +10,8 @@ import java.util.UUID;
 @Builder
 public class ListBlobsQuery {
     private final UUID userId;
-    private final int page;
-    private final int size;
-} 
\ No newline at end of file
+    private final StorageProvider provider;
+    // Opaque token from the previous page's nextCursor; null for the first page
+    private final String cursor;
+    private final int limit;
+}
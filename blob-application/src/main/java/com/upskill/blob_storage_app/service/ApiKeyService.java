@@ -0,0 +1,44 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.entity.ApiKey;
+import com.upskill.blob_storage_app.event.ApiKeyRevokedEvent;
+import com.upskill.blob_storage_app.exception.ApiKeyNotFoundException;
+import com.upskill.blob_storage_app.port.input.ApiKeyUseCase;
+import com.upskill.blob_storage_app.repository.ApiKeyRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Revokes API keys. Authentication results are cached by key digest, so every revocation
+ * publishes an {@link ApiKeyRevokedEvent} for the cache to evict the key once the change commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApiKeyService implements ApiKeyUseCase {
+    private static final Logger log = LoggerFactory.getLogger(ApiKeyService.class);
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public void revokeApiKey(UUID userId, UUID keyId) {
+        // Someone else's key is reported as missing, so ids can't be probed
+        ApiKey apiKey = apiKeyRepository.findById(keyId)
+                .filter(key -> key.getUser().getId().equals(userId))
+                .orElseThrow(() -> new ApiKeyNotFoundException(keyId.toString()));
+        if (apiKey.isActive()) {
+            apiKey.setActive(false);
+            apiKeyRepository.save(apiKey);
+            log.info("Revoked API key {} of user {}", keyId, userId);
+        }
+        // Published even for an already inactive key, in case a node still holds it as active
+        eventPublisher.publishEvent(new ApiKeyRevokedEvent(apiKey.getKeyHash()));
+    }
+}
@@ -0,0 +1,163 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.dto.BatchUploadResult;
+import com.upskill.blob_storage_app.dto.BlobUploadItem;
+import com.upskill.blob_storage_app.entity.Blob;
+import com.upskill.blob_storage_app.entity.User;
+import com.upskill.blob_storage_app.exception.BlobStorageException;
+import com.upskill.blob_storage_app.exception.UserNotFoundException;
+import com.upskill.blob_storage_app.port.input.BlobBatchUseCase;
+import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.port.output.BlobStorageStrategyFactory;
+import com.upskill.blob_storage_app.repository.BlobRepository;
+import com.upskill.blob_storage_app.repository.UserRepository;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Uploads many files in one request. Content is written to storage concurrently on a bounded
+ * executor, then every successful blob row is inserted with a single JDBC-batched
+ * {@code saveAll}, together with their outbox events. If that insert fails, the stored content is removed again.
+ */
+@Service
+public class BlobBatchService implements BlobBatchUseCase {
+    private static final Logger log = LoggerFactory.getLogger(BlobBatchService.class);
+
+    private final BlobRepository blobRepository;
+    private final UserRepository userRepository;
+    private final BlobStorageStrategyFactory storageFactory;
+    private final BlobDomainService blobDomainService;
+    private final BlobUploader blobUploader;
+    private final ContentAddressedStore contentAddressedStore;
+    private final BlobEventOutbox blobEventOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService batchExecutor;
+
+    @Value("${storage.batch.max-items:1000}")
+    private int maxItems;
+
+    public BlobBatchService(BlobRepository blobRepository, UserRepository userRepository,
+                            BlobStorageStrategyFactory storageFactory, BlobDomainService blobDomainService,
+                            BlobUploader blobUploader, ContentAddressedStore contentAddressedStore,
+                            BlobEventOutbox blobEventOutbox, TransactionTemplate transactionTemplate,
+                            @Qualifier("blobBatchExecutor") ExecutorService batchExecutor) {
+        this.blobRepository = blobRepository;
+        this.userRepository = userRepository;
+        this.storageFactory = storageFactory;
+        this.blobDomainService = blobDomainService;
+        this.blobUploader = blobUploader;
+        this.contentAddressedStore = contentAddressedStore;
+        this.blobEventOutbox = blobEventOutbox;
+        this.transactionTemplate = transactionTemplate;
+        this.batchExecutor = batchExecutor;
+    }
+
+    @Override
+    public List<BatchUploadResult> uploadBlobs(UUID userId, List<BlobUploadItem> items, StorageProvider provider) {
+        log.info("Batch uploading {} blobs for user {} with provider {}", items.size(), userId, provider);
+        if (items.size() > maxItems) {
+            throw new BlobStorageException("Batch of " + items.size() + " files exceeds the limit of " + maxItems);
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> {
+                    log.warn("User not found: {}", userId);
+                    return new UserNotFoundException(userId.toString());
+                });
+        BlobStoragePort storage = storageFactory.getStrategy(provider);
+
+        List<Future<Blob>> writes = new ArrayList<>(items.size());
+        for (BlobUploadItem item : items) {
+            writes.add(batchExecutor.submit(() -> store(user, item, provider, storage)));
+        }
+
+        Blob[] stored = new Blob[items.size()];
+        BatchUploadResult.ErrorCode[] errors = new BatchUploadResult.ErrorCode[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                stored[i] = writes.get(i).get();
+            } catch (ExecutionException e) {
+                log.warn("Batch item {} failed for user {}", items.get(i).getFilename(), userId, e.getCause());
+                errors[i] = errorCode(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writes.forEach(write -> write.cancel(true));
+                throw new BlobStorageException("Interrupted during batch upload", e);
+            }
+        }
+
+        List<Blob> blobs = new ArrayList<>(items.size());
+        for (Blob blob : stored) {
+            if (blob != null) {
+                blobs.add(blob);
+            }
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                blobRepository.saveAll(blobs);
+                blobEventOutbox.created(blobs);
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to save batch of {} blobs for user {}; removing stored content", blobs.size(), userId, e);
+            blobs.forEach(blob -> discard(blob, storage));
+            throw e;
+        }
+        log.info("Batch upload complete for user {}: {} of {} stored", userId, blobs.size(), items.size());
+
+        List<BatchUploadResult> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            String filename = items.get(i).getFilename();
+            results.add(stored[i] != null
+                    ? BatchUploadResult.succeeded(filename, stored[i].getBlobId().getValue())
+                    : BatchUploadResult.failed(filename, errors[i]));
+        }
+        return results;
+    }
+
+    private Blob store(User user, BlobUploadItem item, StorageProvider provider, BlobStoragePort storage) throws IOException {
+        try (InputStream content = item.getContent().getInputStream()) {
+            BlobUploader.StoredContent stored = blobUploader.requiresTransaction()
+                    ? transactionTemplate.execute(status -> blobUploader.store(user.getId(), content, item.getContentLength(), item.getFilename(), provider, storage))
+                    : blobUploader.store(user.getId(), content, item.getContentLength(), item.getFilename(), provider, storage);
+            Blob blob = blobDomainService.createBlob(user, item.getFilename(), BlobUploader.DEFAULT_CONTENT_TYPE,
+                    stored.size(), provider, stored.storageLocation());
+            stored.applyTo(blob);
+            return blob;
+        }
+    }
+
+    private static BatchUploadResult.ErrorCode errorCode(Throwable failure) {
+        if (failure instanceof IOException) {
+            return BatchUploadResult.ErrorCode.CONTENT_UNREADABLE;
+        }
+        if (failure instanceof BlobStorageException) {
+            return BatchUploadResult.ErrorCode.STORAGE_UNAVAILABLE;
+        }
+        return BatchUploadResult.ErrorCode.INTERNAL_ERROR;
+    }
+
+    private void discard(Blob blob, BlobStoragePort storage) {
+        try {
+            if (contentAddressedStore.isContentAddressed(blob)) {
+                transactionTemplate.executeWithoutResult(status -> contentAddressedStore.release(blob));
+            } else {
+                storage.delete(blob.getStorageLocation(), blob.getStorageProvider());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove content {} after failed batch save", blob.getStorageLocation(), e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.dto.BlobEvent;
+import com.upskill.blob_storage_app.entity.OutboxEvent;
+import com.upskill.blob_storage_app.port.output.BlobEventListener;
+import com.upskill.blob_storage_app.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers outbox events to every {@link BlobEventListener} in batches. A batch is claimed,
+ * handed to each listener and deleted in one transaction; if any listener fails the batch is
+ * rescheduled with exponential backoff and redelivered to all of them, so delivery is at least
+ * once. Publishes the end-to-end lag of delivered events and the age of the oldest pending one.
+ */
+@Component
+public class BlobEventDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(BlobEventDispatcher.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<BlobEventListener> listeners;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final RetryBackoff backoff;
+    private final Timer lag;
+    private final Counter dispatched;
+    private final Counter failed;
+    private final AtomicLong oldestPendingMillis = new AtomicLong();
+
+    public BlobEventDispatcher(OutboxEventRepository outboxEventRepository,
+                               ObjectProvider<BlobEventListener> listeners,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${events.outbox.batch-size:500}") int batchSize,
+                               @Value("${events.outbox.initial-backoff:PT1S}") Duration initialBackoff,
+                               @Value("${events.outbox.max-backoff:PT5M}") Duration maxBackoff) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.listeners = listeners.orderedStream().toList();
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.backoff = new RetryBackoff(initialBackoff, maxBackoff);
+        this.lag = Timer.builder("blob.events.lag")
+                .description("Time from a blob change committing to its event being delivered")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.dispatched = Counter.builder("blob.events.dispatched").register(meterRegistry);
+        this.failed = Counter.builder("blob.events.failed").register(meterRegistry);
+        Gauge.builder("blob.events.oldest.pending", oldestPendingMillis, AtomicLong::get)
+                .description("Age in milliseconds of the oldest undelivered event")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${events.outbox.poll-interval:PT1S}")
+    public void dispatch() {
+        int claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> dispatchBatch(Instant.now()));
+        } while (claimed == batchSize);
+        Instant now = Instant.now();
+        oldestPendingMillis.set(outboxEventRepository.findOldestOccurredAt()
+                .map(oldest -> Duration.between(oldest, now).toMillis())
+                .orElse(0L));
+    }
+
+    int dispatchBatch(Instant now) {
+        List<OutboxEvent> due = outboxEventRepository.lockDue(now, PageRequest.of(0, batchSize));
+        if (due.isEmpty()) {
+            return 0;
+        }
+        List<BlobEvent> events = due.stream().map(BlobEvent::of).toList();
+        for (BlobEventListener listener : listeners) {
+            try {
+                listener.onBlobEvents(events);
+            } catch (RuntimeException e) {
+                log.warn("Listener {} failed on {} blob events; rescheduling", listener.getClass().getSimpleName(), due.size(), e);
+                failed.increment(due.size());
+                due.forEach(event -> reschedule(event, String.valueOf(e.getMessage()), now));
+                return due.size();
+            }
+        }
+        outboxEventRepository.deleteAllInBatch(due);
+        Instant delivered = Instant.now();
+        due.forEach(event -> lag.record(Duration.between(event.getOccurredAt(), delivered)));
+        dispatched.increment(due.size());
+        log.debug("Dispatched {} blob events to {} listeners", due.size(), listeners.size());
+        return due.size();
+    }
+
+    private void reschedule(OutboxEvent event, String error, Instant now) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setNextAttemptAt(backoff.nextAttemptAt(attempts, now));
+        event.setLastError(RetryBackoff.truncate(error));
+    }
+}
@@ -0,0 +1,54 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.entity.Blob;
+import com.upskill.blob_storage_app.entity.OutboxEvent;
+import com.upskill.blob_storage_app.repository.BlobLocation;
+import com.upskill.blob_storage_app.repository.OutboxEventRepository;
+import com.upskill.blob_storage_app.valueobject.BlobEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Records blob changes in the outbox. Every method joins the caller's transaction, so an event
+ * exists exactly when the change it describes was committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlobEventOutbox {
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void created(List<Blob> blobs) {
+        outboxEventRepository.saveAll(blobs.stream().map(blob -> of(BlobEventType.CREATED, blob)).toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleted(Blob blob) {
+        outboxEventRepository.save(of(BlobEventType.DELETED, blob));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleted(UUID userId, List<BlobLocation> blobs) {
+        outboxEventRepository.saveAll(blobs.stream()
+                .map(blob -> {
+                    OutboxEvent event = OutboxEvent.of(BlobEventType.DELETED, blob.blobId(), userId,
+                            blob.storageProvider(), blob.storageLocation());
+                    event.setContentHash(blob.contentHash());
+                    return event;
+                })
+                .toList());
+    }
+
+    private static OutboxEvent of(BlobEventType type, Blob blob) {
+        OutboxEvent event = OutboxEvent.of(type, blob.getBlobId().getValue(), blob.getUser().getId(),
+                blob.getStorageProvider(), blob.getStorageLocation());
+        event.setSize(blob.getSize());
+        event.setContentHash(blob.getContentHash());
+        return event;
+    }
+}
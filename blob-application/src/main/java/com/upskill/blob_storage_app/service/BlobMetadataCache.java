@@ -0,0 +1,83 @@
+package com.upskill.blob_storage_app.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.upskill.blob_storage_app.dto.BlobMetadata;
+import com.upskill.blob_storage_app.event.BlobCreatedEvent;
+import com.upskill.blob_storage_app.event.BlobDeletedEvent;
+import com.upskill.blob_storage_app.repository.BlobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Read-through cache of blob metadata in front of {@link BlobRepository#findByBlobId_Value}.
+ * Missing blobs are not cached, so a blob is visible as soon as its row is committed.
+ * Entries are evicted when the domain publishes a create or delete for the blob, and again
+ * once the surrounding transaction commits so a concurrent read cannot re-populate the
+ * pre-commit row. Misses load on the caller's thread through {@link CacheLoading}, inside its
+ * transaction, so no monitor is held across the database call and virtual-thread callers never
+ * pin their carrier; a load that completes after an eviction is discarded rather than cached.
+ */
+@Component
+public class BlobMetadataCache implements MeterBinder {
+    private final BlobRepository blobRepository;
+    private final AsyncCache<String, BlobMetadata> cache;
+
+    public BlobMetadataCache(
+            BlobRepository blobRepository,
+            @Value("${storage.metadata-cache.maximum-size:100000}") long maximumSize,
+            @Value("${storage.metadata-cache.ttl:PT10M}") Duration ttl) {
+        this.blobRepository = blobRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    public Optional<BlobMetadata> get(String blobId) {
+        return Optional.ofNullable(CacheLoading.getOnCallerThread(cache, blobId, this::load));
+    }
+
+    public void invalidate(String blobId) {
+        cache.synchronous().invalidate(blobId);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    @EventListener
+    public void onBlobCreated(BlobCreatedEvent event) {
+        invalidate(event.getBlob().getBlobId().getValue());
+    }
+
+    @EventListener
+    public void onBlobDeleted(BlobDeletedEvent event) {
+        invalidate(event.getBlob().getBlobId().getValue());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void afterBlobDeleteCommitted(BlobDeletedEvent event) {
+        invalidate(event.getBlob().getBlobId().getValue());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "blobMetadata");
+    }
+
+    private BlobMetadata load(String blobId) {
+        return blobRepository.findByBlobId_Value(blobId)
+                .map(BlobMetadata::of)
+                .orElse(null);
+    }
+}
@@ -2,21 +2,39 @@ package com.upskill.blob_storage_app.service;
 
 import com.upskill.blob_storage_app.command.DeleteBlobCommand;
 import com.upskill.blob_storage_app.command.SaveBlobCommand;
+import com.upskill.blob_storage_app.dto.BlobDownload;
+import com.upskill.blob_storage_app.dto.BlobMetadata;
+import com.upskill.blob_storage_app.dto.BlobPage;
+import com.upskill.blob_storage_app.dto.BulkDeleteResult;
+import com.upskill.blob_storage_app.dto.PresignedTransfer;
 import com.upskill.blob_storage_app.entity.Blob;
+import com.upskill.blob_storage_app.entity.DeletionTombstone;
 import com.upskill.blob_storage_app.entity.User;
 import com.upskill.blob_storage_app.port.input.BlobUseCase;
 import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.port.output.StoredObject;
+import com.upskill.blob_storage_app.query.BlobCursor;
 import com.upskill.blob_storage_app.query.GetBlobQuery;
 import com.upskill.blob_storage_app.query.ListBlobsQuery;
+import com.upskill.blob_storage_app.repository.BlobKey;
+import com.upskill.blob_storage_app.repository.BlobLocation;
 import com.upskill.blob_storage_app.repository.BlobRepository;
+import com.upskill.blob_storage_app.repository.DeletionTombstoneRepository;
 import com.upskill.blob_storage_app.repository.UserRepository;
 import com.upskill.blob_storage_app.service.BlobDomainService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Set;
 import java.util.UUID;
 
 import java.util.List;
@@ -26,19 +44,35 @@ import com.upskill.blob_storage_app.valueobject.StorageProvider;
 import com.upskill.blob_storage_app.exception.BlobNotFoundException;
 import com.upskill.blob_storage_app.exception.UnauthorizedBlobAccessException;
 import com.upskill.blob_storage_app.exception.UserNotFoundException;
+import io.micrometer.core.annotation.Timed;
 
 @Service
 @RequiredArgsConstructor
+// Every public use case as blob.service{class, method, exception}
+@Timed(value = "blob.service", histogram = true)
 public class BlobService implements BlobUseCase {
     private static final Logger log = LoggerFactory.getLogger(BlobService.class);
+    private static final int BULK_DELETE_CHUNK_SIZE = 1000;
     private final BlobRepository blobRepository;
     private final UserRepository userRepository;
     private final BlobStorageStrategyFactory storageFactory;
     private final BlobDomainService blobDomainService;
+    private final ContentAddressedStore contentAddressedStore;
+    private final BlobMetadataCache blobMetadataCache;
+    private final BlobUploader blobUploader;
+    private final DeletionTombstoneRepository deletionTombstoneRepository;
+    private final BlobEventOutbox blobEventOutbox;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${storage.presign.ttl:PT15M}")
+    private Duration presignTtl;
+
+    @Value("${storage.integrity.verify-downloads:false}")
+    private boolean verifyDownloads;
 
     @Override
     @Transactional
-    public String uploadBlob(UUID userId, byte[] content, String filename, StorageProvider provider) {
+    public String uploadBlob(UUID userId, InputStream content, long contentLength, String filename, StorageProvider provider) {
         log.info("Uploading blob for user {} with provider {}", userId, provider);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> {
@@ -46,57 +80,206 @@ public class BlobService implements BlobUseCase {
                     return new UserNotFoundException(userId.toString());
                 });
         BlobStoragePort storage = storageFactory.getStrategy(provider);
-        String storageLocation = storage.upload(content, filename, "application/octet-stream", provider);
-        Blob blob = blobDomainService.createBlob(user, filename, "application/octet-stream", (long) content.length, provider, storageLocation);
+        BlobUploader.StoredContent stored = blobUploader.store(userId, content, contentLength, filename, provider, storage);
+        Blob blob = blobDomainService.createBlob(user, filename, BlobUploader.DEFAULT_CONTENT_TYPE, stored.size(), provider, stored.storageLocation());
+        stored.applyTo(blob);
         blobRepository.save(blob);
+        blobEventOutbox.created(List.of(blob));
         log.info("Blob uploaded: {}", blob.getBlobId().getValue());
         return blob.getBlobId().getValue();
     }
 
+    @Override
+    @Transactional
+    public String registerBlob(UUID userId, String filename, String contentType, long size, StorageProvider provider,
+                               String storageLocation, String contentHash) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> {
+                    log.warn("User not found: {}", userId);
+                    return new UserNotFoundException(userId.toString());
+                });
+        Blob blob = blobDomainService.createBlob(user, filename, contentType, size, provider, storageLocation);
+        blob.setContentHash(contentHash);
+        blobRepository.save(blob);
+        blobEventOutbox.created(List.of(blob));
+        log.info("Blob registered: {}", blob.getBlobId().getValue());
+        return blob.getBlobId().getValue();
+    }
+
+    @Override
+    @Transactional
+    public void discardContent(StorageProvider provider, String storageLocation) {
+        deletionTombstoneRepository.save(DeletionTombstone.of(provider, storageLocation));
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public byte[] downloadBlob(UUID userId, String blobId, StorageProvider provider) {
+    public BlobDownload downloadBlob(UUID userId, String blobId, StorageProvider provider) {
         log.info("Downloading blob {} for user {} with provider {}", blobId, userId, provider);
-        Blob blob = blobRepository.findByBlobId_Value(blobId)
+        BlobMetadata blob = blobMetadataCache.get(blobId)
                 .orElseThrow(() -> {
                     log.warn("Blob not found: {}", blobId);
                     return new BlobNotFoundException(blobId);
                 });
-        if (!blob.getUser().getId().equals(userId)) {
+        if (!blob.isOwnedBy(userId)) {
             log.warn("Unauthorized access to blob {} by user {}", blobId, userId);
             throw new UnauthorizedBlobAccessException(blobId, userId.toString());
         }
-        BlobStoragePort storage = storageFactory.getStrategy(provider);
-        return storage.download(blob.getStorageLocation(), blob.getStorageProvider());
+        return BlobDownload.builder()
+                .blobId(blobId)
+                .filename(blob.getFilename())
+                .contentType(blob.getContentType())
+                .size(blob.getSize())
+                .lastModified(blob.getLastModified())
+                .storage(storageFactory.getStrategy(provider))
+                .storageLocation(blob.getStorageLocation())
+                .storageProvider(blob.getStorageProvider())
+                .compressionCodec(blob.getCompressionCodec())
+                .storedSize(blob.getStoredSize())
+                .contentHash(blob.getContentHash())
+                .verifyContent(verifyDownloads)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PresignedTransfer presignDownload(UUID userId, String blobId, StorageProvider provider) {
+        BlobMetadata blob = blobMetadataCache.get(blobId)
+                .orElseThrow(() -> {
+                    log.warn("Blob not found: {}", blobId);
+                    return new BlobNotFoundException(blobId);
+                });
+        if (!blob.isOwnedBy(userId)) {
+            log.warn("Unauthorized presign attempt for blob {} by user {}", blobId, userId);
+            throw new UnauthorizedBlobAccessException(blobId, userId.toString());
+        }
+        Instant expiresAt = Instant.now().plus(presignTtl);
+        String url = storageFactory.getStrategy(provider).presignDownload(new StoredObject(blob.getStorageLocation(),
+                blob.getFilename(), blob.getContentType(), blob.getCompressionCodec(), blob.getSize(), blob.getLastModified()),
+                presignTtl, blob.getStorageProvider());
+        log.info("Presigned download of blob {} for user {} until {}", blobId, userId, expiresAt);
+        return PresignedTransfer.builder()
+                .url(url)
+                .method("GET")
+                .length(blob.getSize())
+                .expiresAt(expiresAt)
+                .build();
     }
 
     @Override
     @Transactional
     public void deleteBlob(UUID userId, String blobId, StorageProvider provider) {
         log.info("Deleting blob {} for user {} with provider {}", blobId, userId, provider);
-        Blob blob = blobRepository.findByBlobId_Value(blobId)
+        BlobMetadata metadata = blobMetadataCache.get(blobId)
                 .orElseThrow(() -> {
                     log.warn("Blob not found: {}", blobId);
                     return new BlobNotFoundException(blobId);
                 });
-        if (!blob.getUser().getId().equals(userId)) {
+        if (!metadata.isOwnedBy(userId)) {
             log.warn("Unauthorized delete attempt for blob {} by user {}", blobId, userId);
             throw new UnauthorizedBlobAccessException(blobId, userId.toString());
         }
-        BlobStoragePort storage = storageFactory.getStrategy(provider);
-        storage.delete(blob.getStorageLocation(), blob.getStorageProvider());
+        // Authorized against the cache; the row itself is still needed for the delete
+        Blob blob = blobRepository.findByBlobId_Value(blobId)
+                .orElseThrow(() -> new BlobNotFoundException(blobId));
+        // The physical object is tombstoned in this transaction and removed by the garbage
+        // collector after commit, so a rollback can never leave a row without its content
+        if (contentAddressedStore.isContentAddressed(blob)) {
+            contentAddressedStore.release(blob);
+        } else {
+            deletionTombstoneRepository.save(DeletionTombstone.of(blob.getStorageProvider(), blob.getStorageLocation()));
+        }
         blobDomainService.deleteBlob(blob);
         blobRepository.delete(blob);
+        blobEventOutbox.deleted(blob);
         log.info("Blob deleted: {}", blobId);
     }
 
+    // Each chunk is one transaction: rows are removed with a set-based delete and their content
+    // is tombstoned for the garbage collector, so a failed chunk leaves both untouched.
+    @Override
+    public BulkDeleteResult deleteBlobs(UUID userId, List<String> blobIds) {
+        log.info("Bulk deleting {} blobs for user {}", blobIds.size(), userId);
+        BulkDeleteResult result = new BulkDeleteResult();
+        List<String> distinctIds = blobIds.stream().distinct().toList();
+        for (int i = 0; i < distinctIds.size(); i += BULK_DELETE_CHUNK_SIZE) {
+            List<String> chunk = distinctIds.subList(i, Math.min(distinctIds.size(), i + BULK_DELETE_CHUNK_SIZE));
+            List<BlobLocation> found = blobRepository.findLocationsByUserIdAndBlobIds(userId, chunk);
+            Set<String> foundIds = found.stream().map(BlobLocation::blobId).collect(Collectors.toSet());
+            chunk.stream().filter(id -> !foundIds.contains(id)).forEach(result.getNotFound()::add);
+            deleteLocated(userId, found, result);
+        }
+        log.info("Bulk delete for user {}: {} deleted, {} not found, {} failed",
+                userId, result.getDeleted().size(), result.getNotFound().size(), result.getFailed().size());
+        return result;
+    }
+
+    @Override
+    public BulkDeleteResult deleteBlobsByFilenamePrefix(UUID userId, String filenamePrefix) {
+        log.info("Bulk deleting blobs with filename prefix '{}' for user {}", filenamePrefix, userId);
+        BulkDeleteResult result = new BulkDeleteResult();
+        String pattern = filenamePrefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        UUID after = new UUID(0, 0);
+        List<BlobLocation> chunk;
+        do {
+            chunk = blobRepository.findLocationsByUserIdAndFilenameLike(userId, pattern, after,
+                    PageRequest.of(0, BULK_DELETE_CHUNK_SIZE));
+            if (!chunk.isEmpty()) {
+                after = chunk.get(chunk.size() - 1).id();
+                deleteLocated(userId, chunk, result);
+            }
+        } while (chunk.size() == BULK_DELETE_CHUNK_SIZE);
+        log.info("Bulk delete for user {}: {} deleted, {} failed", userId, result.getDeleted().size(), result.getFailed().size());
+        return result;
+    }
+
+    private void deleteLocated(UUID userId, List<BlobLocation> blobs, BulkDeleteResult result) {
+        if (blobs.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<DeletionTombstone> tombstones = new ArrayList<>(blobs.size());
+                for (BlobLocation blob : blobs) {
+                    if (contentAddressedStore.isContentAddressed(blob.contentHash(), blob.storageLocation())) {
+                        // Shared content is reference counted, so it is released one blob at a time
+                        contentAddressedStore.release(blob.contentHash(), blob.storageProvider(), blob.storageLocation());
+                    } else {
+                        tombstones.add(DeletionTombstone.of(blob.storageProvider(), blob.storageLocation()));
+                    }
+                }
+                deletionTombstoneRepository.saveAll(tombstones);
+                blobRepository.deleteByIdIn(blobs.stream().map(BlobLocation::id).toList());
+                blobEventOutbox.deleted(userId, blobs);
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to delete a chunk of {} blobs", blobs.size(), e);
+            blobs.forEach(blob -> result.getFailed().put(blob.blobId(), e.getMessage()));
+            return;
+        }
+        blobs.forEach(blob -> {
+            blobMetadataCache.invalidate(blob.blobId());
+            result.getDeleted().add(blob.blobId());
+        });
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<String> listBlobs(UUID userId, StorageProvider provider) {
-        log.info("Listing blobs for user {} with provider {}", userId, provider);
-        // Optionally use provider for filtering or listing from the correct backend
-        return blobRepository.findByUserId(userId).stream()
-                .map(blob -> blob.getBlobId().getValue())
-                .collect(Collectors.toList());
+    public BlobPage listBlobs(ListBlobsQuery query) {
+        UUID userId = query.getUserId();
+        log.info("Listing blobs for user {} with provider {}", userId, query.getProvider());
+        // One extra row tells us whether another page exists without a count query
+        PageRequest limit = PageRequest.of(0, query.getLimit() + 1);
+        List<BlobKey> keys;
+        if (query.getCursor() == null) {
+            keys = blobRepository.findKeysByUserId(userId, limit);
+        } else {
+            BlobCursor cursor = BlobCursor.decode(query.getCursor());
+            keys = blobRepository.findKeysByUserIdAfter(userId, cursor.getCreatedAt(), cursor.getId(), limit);
+        }
+        boolean hasMore = keys.size() > query.getLimit();
+        List<BlobKey> page = hasMore ? keys.subList(0, query.getLimit()) : keys;
+        String nextCursor = hasMore ? BlobCursor.after(page.get(page.size() - 1)).encode() : null;
+        return new BlobPage(page.stream().map(BlobKey::blobId).collect(Collectors.toList()), nextCursor);
     }
-} 
\ No newline at end of file
+}
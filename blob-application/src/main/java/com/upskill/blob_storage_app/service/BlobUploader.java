@@ -0,0 +1,97 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.entity.Blob;
+import com.upskill.blob_storage_app.entity.ContentObject;
+import com.upskill.blob_storage_app.exception.BlobStorageException;
+import com.upskill.blob_storage_app.io.CompressingInputStream;
+import com.upskill.blob_storage_app.io.ContentHash;
+import com.upskill.blob_storage_app.io.CountingInputStream;
+import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.util.UUID;
+
+/**
+ * Writes upload content to storage, either content-addressed or under a fresh key with the
+ * received size checked against the declared one, compressed on the way when the
+ * {@link CompressionPolicy} selects a codec. Either way the content is hashed as it streams,
+ * so every blob gets a checksum. Shared by single and batch uploads; the caller creates and
+ * saves the blob row.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlobUploader {
+    private static final Logger log = LoggerFactory.getLogger(BlobUploader.class);
+    public static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final ContentAddressedStore contentAddressedStore;
+    private final CompressionPolicy compressionPolicy;
+
+    @Value("${storage.dedup.enabled:false}")
+    private boolean deduplicationEnabled;
+
+    public record StoredContent(String storageLocation, long size, String contentHash,
+                                CompressionCodec compressionCodec, long storedSize) {
+
+        public void applyTo(Blob blob) {
+            blob.setContentHash(contentHash);
+            blob.setCompressionCodec(compressionCodec);
+            blob.setStoredSize(storedSize);
+        }
+    }
+
+    // Content-addressed stores update reference counts, so the caller must provide a transaction
+    public boolean requiresTransaction() {
+        return deduplicationEnabled;
+    }
+
+    public StoredContent store(UUID userId, InputStream content, long contentLength, String filename,
+                               StorageProvider provider, BlobStoragePort storage) {
+        CompressionCodec codec = compressionPolicy.select(userId, filename, DEFAULT_CONTENT_TYPE, contentLength);
+        if (deduplicationEnabled) {
+            ContentObject stored = contentAddressedStore.store(content, contentLength, DEFAULT_CONTENT_TYPE, codec, provider, storage);
+            return new StoredContent(stored.getStorageLocation(), stored.getSize(), stored.getContentHash(),
+                    stored.getCompressionCodec(), stored.getStoredSize());
+        }
+        DigestInputStream digestContent = new DigestInputStream(content, ContentHash.newDigest());
+        CountingInputStream countingContent = new CountingInputStream(digestContent);
+        String storageLocation;
+        long storedSize;
+        if (codec == CompressionCodec.NONE) {
+            storageLocation = storage.upload(countingContent, contentLength, filename, DEFAULT_CONTENT_TYPE, provider);
+            storedSize = countingContent.getCount();
+        } else {
+            // The encoded length is only known once the adapter has read everything
+            CountingInputStream encodedContent = new CountingInputStream(compress(countingContent, codec));
+            storageLocation = storage.upload(encodedContent, -1, filename, DEFAULT_CONTENT_TYPE, provider);
+            storedSize = encodedContent.getCount();
+        }
+        long size = countingContent.getCount();
+        if (contentLength >= 0 && size != contentLength) {
+            log.warn("Upload size mismatch for {}: expected {} bytes, received {}", filename, contentLength, size);
+            storage.delete(storageLocation, provider);
+            throw new BlobStorageException("Upload ended after " + size + " of " + contentLength + " bytes");
+        }
+        if (codec != CompressionCodec.NONE) {
+            log.debug("Stored {} with {}: {} bytes as {}", filename, codec, size, storedSize);
+        }
+        return new StoredContent(storageLocation, size, ContentHash.toHex(digestContent.getMessageDigest()), codec, storedSize);
+    }
+
+    private InputStream compress(InputStream content, CompressionCodec codec) {
+        try {
+            return new CompressingInputStream(content, out -> compressionPolicy.encoder(out, codec));
+        } catch (IOException e) {
+            throw new BlobStorageException("Failed to start " + codec + " compression", e);
+        }
+    }
+}
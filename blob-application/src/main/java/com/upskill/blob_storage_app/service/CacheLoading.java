@@ -0,0 +1,39 @@
+package com.upskill.blob_storage_app.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Fills {@link AsyncCache} misses on the calling thread. The first caller for a key installs an
+ * incomplete future and runs the loader itself; concurrent callers for the same key wait on that
+ * future. No cache monitor is held across the load, and the load runs in the caller's transaction
+ * on the connection it already holds, rather than on another thread that needs a second pooled
+ * connection while the caller waits with the first.
+ */
+public final class CacheLoading {
+
+    private CacheLoading() {
+    }
+
+    public static <K, V> V getOnCallerThread(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> loading);
+        if (future == loading) {
+            try {
+                // A null value or a failure removes the entry again, so the next caller retries
+                loading.complete(loader.apply(key));
+            } catch (RuntimeException | Error e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.io.CompressionStreams;
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Decides which codec an upload is stored with. Only content that is known to compress well
+ * is considered, by content type or, since most uploads arrive as octet streams, by filename
+ * extension; anything already compressed (archives, images, video) is stored as-is. Tenants
+ * can be given their own codec, or NONE to opt out.
+ */
+@Component
+public class CompressionPolicy {
+    private final boolean enabled;
+    private final CompressionCodec defaultCodec;
+    private final long minSize;
+    private final List<String> contentTypes;
+    private final Set<String> extensions;
+    private final Map<UUID, CompressionCodec> tenantCodecs = new HashMap<>();
+    private final int gzipLevel;
+    private final int zstdLevel;
+
+    public CompressionPolicy(@Value("${storage.compression.enabled:false}") boolean enabled,
+                             @Value("${storage.compression.codec:ZSTD}") CompressionCodec defaultCodec,
+                             @Value("${storage.compression.min-size:1KB}") DataSize minSize,
+                             @Value("${storage.compression.content-types:text/*,application/json,application/xml,application/javascript,image/svg+xml}") List<String> contentTypes,
+                             @Value("${storage.compression.extensions:txt,csv,tsv,json,ndjson,xml,html,htm,css,js,svg,md,log,yaml,yml,sql}") List<String> extensions,
+                             @Value("${storage.compression.tenants:}") List<String> tenants,
+                             @Value("${storage.compression.gzip-level:6}") int gzipLevel,
+                             @Value("${storage.compression.zstd-level:3}") int zstdLevel) {
+        this.enabled = enabled;
+        this.defaultCodec = defaultCodec;
+        this.minSize = minSize.toBytes();
+        this.contentTypes = contentTypes.stream().map(type -> type.trim().toLowerCase(Locale.ROOT)).toList();
+        this.extensions = extensions.stream()
+                .map(extension -> extension.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        // Entries are userId=codec
+        for (String tenant : tenants) {
+            if (tenant.isBlank()) {
+                continue;
+            }
+            String[] parts = tenant.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected userId=codec in storage.compression.tenants but got " + tenant);
+            }
+            tenantCodecs.put(UUID.fromString(parts[0].trim()), CompressionCodec.valueOf(parts[1].trim().toUpperCase(Locale.ROOT)));
+        }
+        this.gzipLevel = gzipLevel;
+        this.zstdLevel = zstdLevel;
+    }
+
+    // contentLength is -1 when unknown; such uploads are judged by type alone
+    public CompressionCodec select(UUID userId, String filename, String contentType, long contentLength) {
+        if (!enabled) {
+            return CompressionCodec.NONE;
+        }
+        CompressionCodec codec = tenantCodecs.getOrDefault(userId, defaultCodec);
+        if (codec == CompressionCodec.NONE || (contentLength >= 0 && contentLength < minSize)) {
+            return CompressionCodec.NONE;
+        }
+        return compressible(filename, contentType) ? codec : CompressionCodec.NONE;
+    }
+
+    public OutputStream encoder(OutputStream out, CompressionCodec codec) throws IOException {
+        return CompressionStreams.encoder(out, codec, codec == CompressionCodec.GZIP ? gzipLevel : zstdLevel);
+    }
+
+    private boolean compressible(String filename, String contentType) {
+        if (contentType != null && !BlobUploader.DEFAULT_CONTENT_TYPE.equals(contentType)) {
+            String type = contentType.toLowerCase(Locale.ROOT);
+            int parameters = type.indexOf(';');
+            String mediaType = (parameters >= 0 ? type.substring(0, parameters) : type).trim();
+            for (String pattern : contentTypes) {
+                if (pattern.endsWith("/*") ? mediaType.startsWith(pattern.substring(0, pattern.length() - 1)) : mediaType.equals(pattern)) {
+                    return true;
+                }
+            }
+        }
+        int dot = filename == null ? -1 : filename.lastIndexOf('.');
+        return dot >= 0 && extensions.contains(filename.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,140 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.entity.Blob;
+import com.upskill.blob_storage_app.entity.ContentObject;
+import com.upskill.blob_storage_app.entity.DeletionTombstone;
+import com.upskill.blob_storage_app.exception.BlobStorageException;
+import com.upskill.blob_storage_app.io.ContentHash;
+import com.upskill.blob_storage_app.io.CountingInputStream;
+import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.repository.ContentObjectRepository;
+import com.upskill.blob_storage_app.repository.DeletionTombstoneRepository;
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.util.UUID;
+
+/**
+ * Content-addressed storage with reference counting. Uploads are spooled to local disk while
+ * their SHA-256 is computed, so content that is already stored only gains a reference and never
+ * reaches the backend. When the last reference is released the physical object is tombstoned
+ * for the garbage collector. Each registration of a hash gets its own location under the hash,
+ * so content re-uploaded while an old copy awaits collection can never be deleted by it.
+ */
+@Service
+@RequiredArgsConstructor
+public class ContentAddressedStore {
+    private static final Logger log = LoggerFactory.getLogger(ContentAddressedStore.class);
+    private static final String LOCATION_PREFIX = "cas/";
+    private static final String GENERATION_SEPARATOR = ".";
+
+    private final ContentObjectRepository contentObjectRepository;
+    private final ContentReferenceRegistry contentReferenceRegistry;
+    private final DeletionTombstoneRepository tombstoneRepository;
+    private final CompressionPolicy compressionPolicy;
+
+    // Content that is already stored keeps the codec it was stored with, whatever codec is asked for
+    public ContentObject store(InputStream content, long contentLength, String contentType, CompressionCodec codec,
+                               StorageProvider provider, BlobStoragePort storage) {
+        Path spool = null;
+        try {
+            spool = Files.createTempFile("blob-upload-", ".spool");
+            // The hash and size are of the content itself; only the spool holds encoded bytes
+            DigestInputStream digestContent = new DigestInputStream(content, ContentHash.newDigest());
+            CountingInputStream countingContent = new CountingInputStream(digestContent);
+            // The file stream is closed on its own in case the encoder fails to wrap it
+            try (OutputStream file = Files.newOutputStream(spool);
+                 OutputStream out = compressionPolicy.encoder(file, codec)) {
+                countingContent.transferTo(out);
+            }
+            long size = countingContent.getCount();
+            if (contentLength >= 0 && size != contentLength) {
+                throw new BlobStorageException("Upload ended after " + size + " of " + contentLength + " bytes");
+            }
+            String contentHash = ContentHash.toHex(digestContent.getMessageDigest());
+
+            if (contentObjectRepository.incrementReferences(contentHash, provider) > 0) {
+                log.info("Deduplicated upload against existing content {} on {}", contentHash, provider);
+                return registered(contentHash, provider);
+            }
+            String location = locationFor(contentHash) + GENERATION_SEPARATOR + UUID.randomUUID();
+            long storedSize = Files.size(spool);
+            try (InputStream spooled = Files.newInputStream(spool)) {
+                storage.uploadTo(location, spooled, storedSize, contentType, provider);
+            }
+            try {
+                ContentObject registered = contentReferenceRegistry.register(contentHash, provider, location, size, codec, storedSize);
+                // The registration is already committed; a rollback of the upload must not leak it
+                contentReferenceRegistry.releaseOnRollback(contentHash, provider, location);
+                return registered;
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent upload of the same content registered it first; ours is surplus
+                tombstoneRepository.save(DeletionTombstone.of(provider, location));
+                if (contentObjectRepository.incrementReferences(contentHash, provider) == 0) {
+                    throw new BlobStorageException("Content " + contentHash + " was released while being stored", e);
+                }
+                return registered(contentHash, provider);
+            }
+        } catch (IOException e) {
+            throw new BlobStorageException("Failed to store content-addressed upload", e);
+        } finally {
+            deleteSpool(spool);
+        }
+    }
+
+    public boolean isContentAddressed(Blob blob) {
+        return isContentAddressed(blob.getContentHash(), blob.getStorageLocation());
+    }
+
+    // Locations written before per-registration generations are the bare hash path
+    public boolean isContentAddressed(String contentHash, String storageLocation) {
+        if (contentHash == null) {
+            return false;
+        }
+        String base = locationFor(contentHash);
+        return storageLocation.equals(base) || storageLocation.startsWith(base + GENERATION_SEPARATOR);
+    }
+
+    // Both overloads carry the boundary: this one calls the other on itself, past the proxy
+    @Transactional
+    public void release(Blob blob) {
+        release(blob.getContentHash(), blob.getStorageProvider(), blob.getStorageLocation());
+    }
+
+    @Transactional
+    public void release(String contentHash, StorageProvider provider, String storageLocation) {
+        contentReferenceRegistry.release(contentHash, provider, storageLocation);
+    }
+
+    private ContentObject registered(String contentHash, StorageProvider provider) {
+        return contentObjectRepository.findByContentHashAndStorageProvider(contentHash, provider)
+                .orElseThrow(() -> new BlobStorageException("Content " + contentHash + " was released while being stored"));
+    }
+
+    private String locationFor(String contentHash) {
+        return LOCATION_PREFIX + contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/" + contentHash;
+    }
+
+    private void deleteSpool(Path spool) {
+        if (spool == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spool);
+        } catch (IOException e) {
+            log.warn("Failed to delete upload spool {}", spool, e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.entity.ContentObject;
+import com.upskill.blob_storage_app.entity.DeletionTombstone;
+import com.upskill.blob_storage_app.repository.ContentObjectRepository;
+import com.upskill.blob_storage_app.repository.DeletionTombstoneRepository;
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Owns the reference counts of stored content. A new registration commits on its own, so when
+ * the caller's transaction later rolls back the reference it took is given back afterwards.
+ */
+@Service
+public class ContentReferenceRegistry {
+    private static final Logger log = LoggerFactory.getLogger(ContentReferenceRegistry.class);
+
+    private final ContentObjectRepository contentObjectRepository;
+    private final DeletionTombstoneRepository tombstoneRepository;
+    private final TransactionTemplate requiresNew;
+
+    public ContentReferenceRegistry(ContentObjectRepository contentObjectRepository,
+                                    DeletionTombstoneRepository tombstoneRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.contentObjectRepository = contentObjectRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // Runs on its own so that losing the insert race on the unique (hash, provider) key
+    // doesn't poison the caller's transaction; the caller falls back to incrementing.
+    // Callers inside a transaction must follow up with releaseOnRollback.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public ContentObject register(String contentHash, StorageProvider provider, String storageLocation, long size,
+                                  CompressionCodec codec, long storedSize) {
+        ContentObject contentObject = new ContentObject();
+        contentObject.setContentHash(contentHash);
+        contentObject.setStorageProvider(provider);
+        contentObject.setStorageLocation(storageLocation);
+        contentObject.setSize(size);
+        contentObject.setCompressionCodec(codec);
+        contentObject.setStoredSize(storedSize);
+        contentObject.setReferenceCount(1);
+        return contentObjectRepository.saveAndFlush(contentObject);
+    }
+
+    // Releases a reference that was committed ahead of the caller's transaction if that
+    // transaction rolls back; outside a transaction there is nothing to compensate
+    public void releaseOnRollback(String contentHash, StorageProvider provider, String storageLocation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    requiresNew.executeWithoutResult(tx -> releaseReference(contentHash, provider, storageLocation));
+                } catch (RuntimeException e) {
+                    log.error("Failed to release reference to content {} on {} after rollback", contentHash, provider, e);
+                }
+            }
+        });
+    }
+
+    @Transactional
+    public void release(String contentHash, StorageProvider provider, String storageLocation) {
+        releaseReference(contentHash, provider, storageLocation);
+    }
+
+    private void releaseReference(String contentHash, StorageProvider provider, String storageLocation) {
+        ContentObject contentObject = contentObjectRepository
+                .findForUpdate(contentHash, provider)
+                .orElse(null);
+        if (contentObject == null) {
+            log.warn("No content object for {} on {}; collecting {} directly", contentHash, provider, storageLocation);
+            tombstoneRepository.save(DeletionTombstone.of(provider, storageLocation));
+            return;
+        }
+        long remaining = contentObject.getReferenceCount() - 1;
+        if (remaining > 0) {
+            contentObject.setReferenceCount(remaining);
+            return;
+        }
+        log.info("Last reference to content {} released; collecting {}", contentObject.getContentHash(), contentObject.getStorageLocation());
+        contentObjectRepository.delete(contentObject);
+        tombstoneRepository.save(DeletionTombstone.of(contentObject.getStorageProvider(), contentObject.getStorageLocation()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.upskill.blob_storage_app.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Exponential backoff for rows the background jobs retry: the outbox dispatcher and the
+ * storage garbage collector. The delay doubles with every attempt from the initial one up
+ * to the cap, and stored errors are truncated to what the lastError columns hold.
+ */
+final class RetryBackoff {
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    private final Duration initial;
+    private final Duration max;
+
+    RetryBackoff(Duration initial, Duration max) {
+        this.initial = initial;
+        this.max = max;
+    }
+
+    // attempts counts the failure being recorded, so the first retry waits the initial delay
+    Instant nextAttemptAt(int attempts, Instant now) {
+        Duration backoff = initial.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return now.plus(backoff.compareTo(max) > 0 ? max : backoff);
+    }
+
+    static String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
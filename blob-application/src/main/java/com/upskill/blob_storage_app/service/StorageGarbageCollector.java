@@ -0,0 +1,174 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.entity.DeletionTombstone;
+import com.upskill.blob_storage_app.port.output.BlobStorageStrategyFactory;
+import com.upskill.blob_storage_app.repository.BlobRepository;
+import com.upskill.blob_storage_app.repository.ContentObjectRepository;
+import com.upskill.blob_storage_app.repository.DeletionTombstoneRepository;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Deletes tombstoned objects from storage in the background. Due tombstones are claimed in
+ * batches, deleted with one bulk call per provider, and either removed or rescheduled with
+ * exponential backoff. Optionally reconciles storage listings against the database to reclaim
+ * objects nothing references, such as leftovers from failed uploads.
+ */
+@Component
+public class StorageGarbageCollector {
+    private static final Logger log = LoggerFactory.getLogger(StorageGarbageCollector.class);
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+
+    private final DeletionTombstoneRepository tombstoneRepository;
+    private final BlobRepository blobRepository;
+    private final ContentObjectRepository contentObjectRepository;
+    private final BlobStorageStrategyFactory storageFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final RetryBackoff backoff;
+    private final boolean reconcileEnabled;
+    private final List<StorageProvider> reconcileProviders;
+    // Unreferenced keys seen by the previous reconciliation, per provider
+    private final Map<StorageProvider, Set<String>> orphanCandidates = new EnumMap<>(StorageProvider.class);
+
+    public StorageGarbageCollector(DeletionTombstoneRepository tombstoneRepository,
+                                   BlobRepository blobRepository,
+                                   ContentObjectRepository contentObjectRepository,
+                                   BlobStorageStrategyFactory storageFactory,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${storage.gc.batch-size:1000}") int batchSize,
+                                   @Value("${storage.gc.initial-backoff:PT10S}") Duration initialBackoff,
+                                   @Value("${storage.gc.max-backoff:PT1H}") Duration maxBackoff,
+                                   @Value("${storage.gc.reconcile.enabled:false}") boolean reconcileEnabled,
+                                   @Value("${storage.gc.reconcile.providers:S3,LOCAL}") List<StorageProvider> reconcileProviders) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.blobRepository = blobRepository;
+        this.contentObjectRepository = contentObjectRepository;
+        this.storageFactory = storageFactory;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.backoff = new RetryBackoff(initialBackoff, maxBackoff);
+        this.reconcileEnabled = reconcileEnabled;
+        this.reconcileProviders = reconcileProviders;
+    }
+
+    @Scheduled(fixedDelayString = "${storage.gc.interval:PT10S}")
+    public void collect() {
+        int collected;
+        do {
+            collected = transactionTemplate.execute(status -> collectBatch(Instant.now()));
+        } while (collected == batchSize);
+    }
+
+    // Claimed rows stay locked until the batch commits; other instances skip them
+    int collectBatch(Instant now) {
+        List<DeletionTombstone> due = tombstoneRepository.lockDue(now, PageRequest.of(0, batchSize));
+        if (due.isEmpty()) {
+            return 0;
+        }
+        List<DeletionTombstone> deleted = new ArrayList<>(due.size());
+        Map<StorageProvider, List<DeletionTombstone>> byProvider = due.stream()
+                .collect(Collectors.groupingBy(DeletionTombstone::getStorageProvider));
+        byProvider.forEach((provider, tombstones) -> {
+            Map<String, String> failures;
+            try {
+                failures = storageFactory.getStrategy(provider)
+                        .deleteAll(tombstones.stream().map(DeletionTombstone::getStorageLocation).toList(), provider);
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete {} objects from {}", tombstones.size(), provider, e);
+                tombstones.forEach(tombstone -> reschedule(tombstone, String.valueOf(e.getMessage()), now));
+                return;
+            }
+            for (DeletionTombstone tombstone : tombstones) {
+                String failure = failures.get(tombstone.getStorageLocation());
+                if (failure == null) {
+                    deleted.add(tombstone);
+                } else {
+                    reschedule(tombstone, failure, now);
+                }
+            }
+        });
+        tombstoneRepository.deleteAllInBatch(deleted);
+        log.info("Collected {} of {} tombstoned objects", deleted.size(), due.size());
+        return due.size();
+    }
+
+    private void reschedule(DeletionTombstone tombstone, String error, Instant now) {
+        int attempts = tombstone.getAttempts() + 1;
+        tombstone.setAttempts(attempts);
+        tombstone.setNextAttemptAt(backoff.nextAttemptAt(attempts, now));
+        tombstone.setLastError(RetryBackoff.truncate(error));
+    }
+
+    // Storage listings carry no reliable creation time for every backend, so an unreferenced key
+    // is only tombstoned once two consecutive runs have seen it: anything uploaded but not yet
+    // committed during the first run has long been registered by the second.
+    @Scheduled(fixedDelayString = "${storage.gc.reconcile.interval:PT6H}",
+            initialDelayString = "${storage.gc.reconcile.interval:PT6H}")
+    public void reconcile() {
+        if (!reconcileEnabled) {
+            return;
+        }
+        for (StorageProvider provider : reconcileProviders) {
+            try {
+                reconcile(provider);
+            } catch (RuntimeException e) {
+                log.error("Failed to reconcile storage for {}", provider, e);
+            }
+        }
+    }
+
+    void reconcile(StorageProvider provider) {
+        Set<String> previous = orphanCandidates.getOrDefault(provider, Set.of());
+        Set<String> candidates = new HashSet<>();
+        int reclaimed = 0;
+        try (Stream<String> keys = storageFactory.getStrategy(provider).streamKeys("", null, provider)) {
+            Iterator<String> iterator = keys.iterator();
+            List<String> chunk = new ArrayList<>(RECONCILE_CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == RECONCILE_CHUNK_SIZE || !iterator.hasNext()) {
+                    List<String> orphans = unreferenced(provider, chunk);
+                    List<DeletionTombstone> tombstones = new ArrayList<>();
+                    for (String orphan : orphans) {
+                        if (previous.contains(orphan)) {
+                            tombstones.add(DeletionTombstone.of(provider, orphan));
+                        } else {
+                            candidates.add(orphan);
+                        }
+                    }
+                    tombstoneRepository.saveAll(tombstones);
+                    reclaimed += tombstones.size();
+                    chunk.clear();
+                }
+            }
+        }
+        orphanCandidates.put(provider, candidates);
+        log.info("Reconciled {}: {} orphaned objects tombstoned, {} candidates for the next run", provider, reclaimed, candidates.size());
+    }
+
+    private List<String> unreferenced(StorageProvider provider, List<String> keys) {
+        Set<String> referenced = new HashSet<>(blobRepository.findReferencedLocations(provider, keys));
+        referenced.addAll(contentObjectRepository.findReferencedLocations(provider, keys));
+        referenced.addAll(tombstoneRepository.findPendingLocations(provider, keys));
+        return keys.stream().filter(key -> !referenced.contains(key)).toList();
+    }
+}
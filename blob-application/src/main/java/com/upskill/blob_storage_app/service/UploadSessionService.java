@@ -0,0 +1,332 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.dto.PresignedTransfer;
+import com.upskill.blob_storage_app.dto.UploadSessionStatus;
+import com.upskill.blob_storage_app.entity.DeletionTombstone;
+import com.upskill.blob_storage_app.entity.UploadSession;
+import com.upskill.blob_storage_app.entity.UploadSessionPart;
+import com.upskill.blob_storage_app.exception.BlobStorageException;
+import com.upskill.blob_storage_app.exception.IncompleteUploadException;
+import com.upskill.blob_storage_app.exception.InvalidUploadChunkException;
+import com.upskill.blob_storage_app.exception.UploadSessionNotFoundException;
+import com.upskill.blob_storage_app.exception.UserNotFoundException;
+import com.upskill.blob_storage_app.io.ContentHash;
+import com.upskill.blob_storage_app.io.CountingInputStream;
+import com.upskill.blob_storage_app.port.input.BlobUseCase;
+import com.upskill.blob_storage_app.port.input.UploadSessionUseCase;
+import com.upskill.blob_storage_app.port.output.BlobContent;
+import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.port.output.BlobStorageStrategyFactory;
+import com.upskill.blob_storage_app.port.output.StagedUpload;
+import com.upskill.blob_storage_app.repository.DeletionTombstoneRepository;
+import com.upskill.blob_storage_app.repository.UploadSessionPartRepository;
+import com.upskill.blob_storage_app.repository.UploadSessionRepository;
+import com.upskill.blob_storage_app.repository.UserRepository;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resumable uploads. A session fixes the blob's size and a chunk size up front and stages
+ * each chunk as one part through the {@link BlobStoragePort}, so chunks can arrive in any
+ * order, in parallel and more than once, and a dropped connection only costs the chunk it
+ * interrupted. Chunks can also bypass this service through presigned part URLs. Completion
+ * joins the parts, checksums the result and registers the blob; sessions that are neither completed nor aborted
+ * within their TTL are discarded by {@link #expire()}.
+ */
+@Service
+public class UploadSessionService implements UploadSessionUseCase {
+    private static final Logger log = LoggerFactory.getLogger(UploadSessionService.class);
+    // Storage providers cap an object at 10,000 parts; chunks grow to stay within it
+    private static final int MAX_CHUNKS = 10_000;
+    // S3 rejects completing a multipart upload whose parts, bar the last, are smaller than this
+    private static final DataSize MIN_CHUNK_SIZE = DataSize.ofMegabytes(5);
+    private static final int MAX_PRESIGNED_CHUNKS = 1000;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadSessionPartRepository uploadSessionPartRepository;
+    private final UserRepository userRepository;
+    private final DeletionTombstoneRepository deletionTombstoneRepository;
+    private final BlobStorageStrategyFactory storageFactory;
+    private final BlobUseCase blobUseCase;
+    private final TransactionTemplate transactionTemplate;
+    private final long chunkSize;
+    private final Duration ttl;
+    private final Duration cleanupInterval;
+    private final int cleanupBatchSize;
+    private final Duration presignTtl;
+
+    public UploadSessionService(UploadSessionRepository uploadSessionRepository,
+                                UploadSessionPartRepository uploadSessionPartRepository,
+                                UserRepository userRepository,
+                                DeletionTombstoneRepository deletionTombstoneRepository,
+                                BlobStorageStrategyFactory storageFactory,
+                                BlobUseCase blobUseCase,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${storage.upload-sessions.chunk-size:8MB}") DataSize chunkSize,
+                                @Value("${storage.upload-sessions.ttl:PT12H}") Duration ttl,
+                                @Value("${storage.upload-sessions.cleanup-interval:PT5M}") Duration cleanupInterval,
+                                @Value("${storage.upload-sessions.cleanup-batch-size:100}") int cleanupBatchSize,
+                                @Value("${storage.presign.ttl:PT15M}") Duration presignTtl) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.uploadSessionPartRepository = uploadSessionPartRepository;
+        this.userRepository = userRepository;
+        this.deletionTombstoneRepository = deletionTombstoneRepository;
+        this.storageFactory = storageFactory;
+        this.blobUseCase = blobUseCase;
+        this.transactionTemplate = transactionTemplate;
+        if (chunkSize.compareTo(MIN_CHUNK_SIZE) < 0) {
+            throw new IllegalArgumentException("storage.upload-sessions.chunk-size must be at least "
+                    + MIN_CHUNK_SIZE.toMegabytes() + "MB, the smallest S3 multipart part, but got " + chunkSize.toBytes() + " bytes");
+        }
+        this.chunkSize = chunkSize.toBytes();
+        this.ttl = ttl;
+        this.cleanupInterval = cleanupInterval;
+        this.cleanupBatchSize = cleanupBatchSize;
+        this.presignTtl = presignTtl;
+    }
+
+    @Override
+    public UploadSessionStatus createSession(UUID userId, String filename, String contentType, long size, StorageProvider provider) {
+        if (size <= 0) {
+            throw new InvalidUploadChunkException("Upload sessions need a positive size, got " + size);
+        }
+        if (!userRepository.existsById(userId)) {
+            log.warn("User not found: {}", userId);
+            throw new UserNotFoundException(userId.toString());
+        }
+        BlobStoragePort storage = storageFactory.getStrategy(provider);
+        StagedUpload staged = storage.beginStaged(filename, contentType, provider);
+
+        UploadSession session = new UploadSession();
+        session.setUserId(userId);
+        session.setFilename(filename);
+        session.setContentType(contentType);
+        session.setSize(size);
+        session.setChunkSize(Math.max(chunkSize, (size + MAX_CHUNKS - 1) / MAX_CHUNKS));
+        session.setStorageProvider(provider);
+        session.setStorageLocation(staged.location());
+        session.setStagingId(staged.stagingId());
+        session.setExpiresAt(Instant.now().plus(ttl));
+        try {
+            uploadSessionRepository.save(session);
+        } catch (RuntimeException e) {
+            abortQuietly(storage, staged, provider);
+            throw e;
+        }
+        log.info("Upload session {} opened for {} ({} bytes in {} chunks) by user {}",
+                session.getId(), filename, size, session.getChunkCount(), userId);
+        return UploadSessionStatus.of(session, List.of());
+    }
+
+    @Override
+    public UploadSessionStatus uploadChunk(UUID userId, UUID sessionId, long offset, InputStream content, long contentLength) {
+        UploadSession session = findOpen(userId, sessionId);
+        int partNumber = partNumber(session, offset);
+        long expected = session.chunkLength(partNumber);
+        if (contentLength != expected) {
+            throw new InvalidUploadChunkException("Chunk at offset " + offset + " must be " + expected
+                    + " bytes, got " + contentLength);
+        }
+
+        CountingInputStream countingContent = new CountingInputStream(content);
+        String tag = storageFactory.getStrategy(session.getStorageProvider()).uploadPart(
+                new StagedUpload(session.getStorageLocation(), session.getStagingId()), partNumber,
+                countingContent, expected, session.getStorageProvider());
+        if (countingContent.getCount() != expected) {
+            throw new InvalidUploadChunkException("Chunk at offset " + offset + " ended after "
+                    + countingContent.getCount() + " of " + expected + " bytes");
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> recordPart(sessionId, partNumber, expected, tag));
+        } catch (DataIntegrityViolationException e) {
+            // The same chunk was recorded concurrently; the retry finds that row and updates it
+            transactionTemplate.executeWithoutResult(status -> recordPart(sessionId, partNumber, expected, tag));
+        }
+        log.debug("Stored chunk {} of upload session {}", partNumber, sessionId);
+        return UploadSessionStatus.of(session, uploadSessionPartRepository.findBySessionIdOrderByPartNumber(sessionId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UploadSessionStatus getSession(UUID userId, UUID sessionId) {
+        UploadSession session = findOpen(userId, sessionId);
+        return UploadSessionStatus.of(session, uploadSessionPartRepository.findBySessionIdOrderByPartNumber(sessionId));
+    }
+
+    // URLs never outlive the session, so a chunk can't land after expiry has discarded its parts
+    @Override
+    @Transactional(readOnly = true)
+    public List<PresignedTransfer> presignChunks(UUID userId, UUID sessionId, long offset, int count) {
+        UploadSession session = findOpen(userId, sessionId);
+        if (count < 1 || count > MAX_PRESIGNED_CHUNKS) {
+            throw new InvalidUploadChunkException("Between 1 and " + MAX_PRESIGNED_CHUNKS + " chunks can be presigned at once, got " + count);
+        }
+        int first = partNumber(session, offset);
+        int last = Math.min(session.getChunkCount(), first + count - 1);
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(presignTtl).isBefore(session.getExpiresAt()) ? now.plus(presignTtl) : session.getExpiresAt();
+        StorageProvider provider = session.getStorageProvider();
+        BlobStoragePort storage = storageFactory.getStrategy(provider);
+        StagedUpload staged = new StagedUpload(session.getStorageLocation(), session.getStagingId());
+        List<PresignedTransfer> transfers = new ArrayList<>(last - first + 1);
+        for (int partNumber = first; partNumber <= last; partNumber++) {
+            long length = session.chunkLength(partNumber);
+            transfers.add(PresignedTransfer.builder()
+                    .url(storage.presignPart(staged, partNumber, length, Duration.between(now, expiresAt), provider))
+                    .method("PUT")
+                    .offset((partNumber - 1) * session.getChunkSize())
+                    .length(length)
+                    .expiresAt(expiresAt)
+                    .build());
+        }
+        return transfers;
+    }
+
+    @Override
+    @Transactional
+    public String completeSession(UUID userId, UUID sessionId, List<String> partTags) {
+        UploadSession session = lockOpen(userId, sessionId);
+        List<String> tags = partTags != null ? partTags : receivedTags(session);
+        if (tags.size() != session.getChunkCount() || tags.stream().anyMatch(tag -> tag == null || tag.isBlank())) {
+            throw new InvalidUploadChunkException("Expected a part tag for each of the " + session.getChunkCount()
+                    + " chunks, got " + tags.size());
+        }
+        StorageProvider provider = session.getStorageProvider();
+        BlobStoragePort storage = storageFactory.getStrategy(provider);
+        storage.completeStaged(new StagedUpload(session.getStorageLocation(), session.getStagingId()), tags, provider);
+        String blobId = blobUseCase.registerBlob(userId, session.getFilename(), session.getContentType(), session.getSize(),
+                provider, session.getStorageLocation(), checksum(storage, session));
+        uploadSessionPartRepository.deleteBySessionId(sessionId);
+        uploadSessionRepository.delete(session);
+        log.info("Upload session {} completed as blob {}", sessionId, blobId);
+        return blobId;
+    }
+
+    @Override
+    @Transactional
+    public void abortSession(UUID userId, UUID sessionId) {
+        UploadSession session = lockOpen(userId, sessionId);
+        discard(session);
+        log.info("Upload session {} aborted by user {}", sessionId, userId);
+    }
+
+    @Scheduled(fixedDelayString = "${storage.upload-sessions.cleanup-interval:PT5M}")
+    public void expire() {
+        int claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> expireBatch(Instant.now()));
+        } while (claimed == cleanupBatchSize);
+    }
+
+    int expireBatch(Instant now) {
+        List<UploadSession> expired = uploadSessionRepository.lockExpired(now, PageRequest.of(0, cleanupBatchSize));
+        for (UploadSession session : expired) {
+            try {
+                discard(session);
+                log.info("Upload session {} expired", session.getId());
+            } catch (RuntimeException e) {
+                log.warn("Failed to discard expired upload session {}; retrying later", session.getId(), e);
+                session.setExpiresAt(now.plus(cleanupInterval));
+            }
+        }
+        return expired.size();
+    }
+
+    // The target location is tombstoned as well: if a completion reached storage but never
+    // committed, the assembled object would otherwise be left without a row
+    private void discard(UploadSession session) {
+        StorageProvider provider = session.getStorageProvider();
+        storageFactory.getStrategy(provider).abortStaged(
+                new StagedUpload(session.getStorageLocation(), session.getStagingId()), provider);
+        deletionTombstoneRepository.save(DeletionTombstone.of(provider, session.getStorageLocation()));
+        uploadSessionPartRepository.deleteBySessionId(session.getId());
+        uploadSessionRepository.delete(session);
+    }
+
+    // Chunks arrive out of order, some straight to storage through presigned URLs, so the
+    // SHA-256 can only be taken by reading the assembled object back once
+    private static String checksum(BlobStoragePort storage, UploadSession session) {
+        MessageDigest digest = ContentHash.newDigest();
+        try (BlobContent content = storage.download(session.getStorageLocation(), session.getStorageProvider());
+             InputStream in = new DigestInputStream(content.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new BlobStorageException("Failed to checksum completed upload " + session.getStorageLocation(), e);
+        }
+        return ContentHash.toHex(digest);
+    }
+
+    private List<String> receivedTags(UploadSession session) {
+        List<UploadSessionPart> parts = uploadSessionPartRepository.findBySessionIdOrderByPartNumber(session.getId());
+        if (parts.size() != session.getChunkCount()) {
+            throw new IncompleteUploadException(session.getId().toString(), session.getChunkCount() - parts.size());
+        }
+        return parts.stream().map(UploadSessionPart::getTag).toList();
+    }
+
+    private static int partNumber(UploadSession session, long offset) {
+        if (offset < 0 || offset >= session.getSize() || offset % session.getChunkSize() != 0) {
+            throw new InvalidUploadChunkException("Chunk offset " + offset + " is not a multiple of "
+                    + session.getChunkSize() + " within " + session.getSize() + " bytes");
+        }
+        return (int) (offset / session.getChunkSize()) + 1;
+    }
+
+    private void recordPart(UUID sessionId, int partNumber, long size, String tag) {
+        // Holding the session row orders this against completion and abort
+        uploadSessionRepository.findForUpdate(sessionId)
+                .orElseThrow(() -> new UploadSessionNotFoundException(sessionId.toString()));
+        UploadSessionPart part = uploadSessionPartRepository.findBySessionIdAndPartNumber(sessionId, partNumber)
+                .orElseGet(UploadSessionPart::new);
+        part.setSessionId(sessionId);
+        part.setPartNumber(partNumber);
+        part.setSize(size);
+        part.setTag(tag);
+        part.setReceivedAt(Instant.now());
+        uploadSessionPartRepository.saveAndFlush(part);
+    }
+
+    // Sessions of other users and expired ones are reported as missing, like unknown ids
+    private UploadSession findOpen(UUID userId, UUID sessionId) {
+        return checkOpen(userId, sessionId, uploadSessionRepository.findById(sessionId).orElse(null));
+    }
+
+    private UploadSession lockOpen(UUID userId, UUID sessionId) {
+        return checkOpen(userId, sessionId, uploadSessionRepository.findForUpdate(sessionId).orElse(null));
+    }
+
+    private UploadSession checkOpen(UUID userId, UUID sessionId, UploadSession session) {
+        if (session == null || !session.getUserId().equals(userId) || session.getExpiresAt().isBefore(Instant.now())) {
+            throw new UploadSessionNotFoundException(sessionId.toString());
+        }
+        return session;
+    }
+
+    private void abortQuietly(BlobStoragePort storage, StagedUpload staged, StorageProvider provider) {
+        try {
+            storage.abortStaged(staged, provider);
+        } catch (RuntimeException e) {
+            log.warn("Failed to abort staged upload {} at {}", staged.stagingId(), staged.location(), e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.upskill.blob_storage_app.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountingInputStreamTest {
+
+    @Test
+    void shouldCountBytesReadThroughTransferTo() throws IOException {
+        // given
+        CountingInputStream in = new CountingInputStream(new ByteArrayInputStream(new byte[100_000]));
+
+        // when
+        long transferred = in.transferTo(OutputStream.nullOutputStream());
+
+        // then
+        assertThat(transferred).isEqualTo(100_000);
+        assertThat(in.getCount()).isEqualTo(100_000);
+    }
+
+    @Test
+    void shouldRewindCountOnReset() throws IOException {
+        // given
+        CountingInputStream in = new CountingInputStream(new ByteArrayInputStream(new byte[64]));
+        in.readNBytes(10);
+        in.mark(64);
+        in.readNBytes(20);
+
+        // when
+        in.reset();
+        in.readNBytes(20);
+
+        // then
+        assertThat(in.getCount()).isEqualTo(30);
+    }
+}
@@ -0,0 +1,35 @@
+package com.upskill.blob_storage_app.query;
+
+import com.upskill.blob_storage_app.exception.InvalidCursorException;
+import com.upskill.blob_storage_app.repository.BlobKey;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlobCursorTest {
+
+    @Test
+    void shouldRoundTripThroughOpaqueToken() {
+        // given
+        BlobKey last = new BlobKey("blob-1", LocalDateTime.of(2025, 1, 1, 10, 0, 0, 123_456_000), UUID.randomUUID());
+
+        // when
+        String token = BlobCursor.after(last).encode();
+        BlobCursor decoded = BlobCursor.decode(token);
+
+        // then
+        assertThat(token).doesNotContain(last.id().toString());
+        assertThat(decoded.getCreatedAt()).isEqualTo(last.createdAt());
+        assertThat(decoded.getId()).isEqualTo(last.id());
+    }
+
+    @Test
+    void shouldRejectTamperedToken() {
+        assertThatThrownBy(() -> BlobCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,60 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.entity.ApiKey;
+import com.upskill.blob_storage_app.entity.User;
+import com.upskill.blob_storage_app.event.ApiKeyRevokedEvent;
+import com.upskill.blob_storage_app.exception.ApiKeyNotFoundException;
+import com.upskill.blob_storage_app.repository.ApiKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ApiKeyServiceTest {
+
+    private final ApiKeyRepository apiKeyRepository = mock(ApiKeyRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ApiKeyService service = new ApiKeyService(apiKeyRepository, eventPublisher);
+    private final UUID userId = UUID.randomUUID();
+    private ApiKey apiKey;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId(userId);
+        apiKey = ApiKey.builder().id(UUID.randomUUID()).user(user).keyHash("digest").name("ci").isActive(true).build();
+        when(apiKeyRepository.findById(apiKey.getId())).thenReturn(Optional.of(apiKey));
+    }
+
+    @Test
+    void shouldDeactivateTheKeyAndAnnounceTheRevocation() {
+        // when
+        service.revokeApiKey(userId, apiKey.getId());
+
+        // then
+        assertThat(apiKey.isActive()).isFalse();
+        verify(apiKeyRepository).save(apiKey);
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof ApiKeyRevokedEvent revoked && revoked.getKeyHash().equals("digest")));
+    }
+
+    @Test
+    void shouldNotRevokeAnotherUsersKey() {
+        // when / then
+        assertThatThrownBy(() -> service.revokeApiKey(UUID.randomUUID(), apiKey.getId()))
+                .isInstanceOf(ApiKeyNotFoundException.class);
+        assertThat(apiKey.isActive()).isTrue();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,105 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.dto.BatchUploadResult;
+import com.upskill.blob_storage_app.dto.BlobUploadItem;
+import com.upskill.blob_storage_app.entity.User;
+import com.upskill.blob_storage_app.exception.BlobStorageException;
+import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.port.output.BlobStorageStrategyFactory;
+import com.upskill.blob_storage_app.repository.BlobRepository;
+import com.upskill.blob_storage_app.repository.UserRepository;
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlobBatchServiceTest {
+
+    private final BlobRepository blobRepository = mock(BlobRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final BlobStoragePort storage = mock(BlobStoragePort.class);
+    private final BlobEventOutbox blobEventOutbox = mock(BlobEventOutbox.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final UUID userId = UUID.randomUUID();
+    private BlobBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId(userId);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        BlobStorageStrategyFactory storageFactory = provider -> storage;
+        CompressionPolicy compressionPolicy = new CompressionPolicy(false, CompressionCodec.NONE, DataSize.ofKilobytes(1),
+                List.of(), List.of(), List.of(), 6, 3);
+        BlobUploader uploader = new BlobUploader(mock(ContentAddressedStore.class), compressionPolicy);
+        service = new BlobBatchService(blobRepository, userRepository, storageFactory,
+                new BlobDomainService(mock(ApplicationEventPublisher.class)), uploader,
+                mock(ContentAddressedStore.class), blobEventOutbox,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), executor);
+        ReflectionTestUtils.setField(service, "maxItems", 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldStoreItemsConcurrentlyAndSaveSuccessfulOnesInOneBatch() {
+        // given
+        when(storage.upload(any(InputStream.class), anyLong(), anyString(), anyString(), eq(StorageProvider.S3)))
+                .thenAnswer(invocation -> {
+                    String filename = invocation.getArgument(2);
+                    if (filename.equals("bad.txt")) {
+                        throw new BlobStorageException("backend unavailable");
+                    }
+                    invocation.<InputStream>getArgument(0).readAllBytes();
+                    return "key/" + filename;
+                });
+
+        // when
+        List<BatchUploadResult> results = service.uploadBlobs(userId,
+                List.of(item("a.txt"), item("bad.txt"), item("b.txt")), StorageProvider.S3);
+
+        // then
+        assertThat(results).extracting(BatchUploadResult::getFilename).containsExactly("a.txt", "bad.txt", "b.txt");
+        assertThat(results).extracting(BatchUploadResult::isSuccess).containsExactly(true, false, true);
+        assertThat(results.get(1).getError()).isEqualTo(BatchUploadResult.ErrorCode.STORAGE_UNAVAILABLE);
+        verify(blobRepository, times(1)).saveAll(argThat(blobs -> blobs.spliterator().getExactSizeIfKnown() == 2));
+        verify(blobEventOutbox).created(argThat(blobs -> blobs.size() == 2));
+    }
+
+    private static BlobUploadItem item(String filename) {
+        byte[] content = filename.getBytes();
+        return BlobUploadItem.builder()
+                .filename(filename)
+                .contentLength(content.length)
+                .content(() -> new ByteArrayInputStream(content))
+                .build();
+    }
+}
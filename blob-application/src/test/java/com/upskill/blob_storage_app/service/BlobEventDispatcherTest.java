@@ -0,0 +1,78 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.entity.OutboxEvent;
+import com.upskill.blob_storage_app.port.output.BlobEventListener;
+import com.upskill.blob_storage_app.repository.OutboxEventRepository;
+import com.upskill.blob_storage_app.valueobject.BlobEventType;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlobEventDispatcherTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final BlobEventListener listener = mock(BlobEventListener.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboxEvent event = OutboxEvent.of(BlobEventType.CREATED, "blob-1", UUID.randomUUID(),
+            StorageProvider.S3, "key/blob-1");
+    private BlobEventDispatcher dispatcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<BlobEventListener> listeners = mock(ObjectProvider.class);
+        when(listeners.orderedStream()).thenAnswer(invocation -> Stream.of(listener));
+        dispatcher = new BlobEventDispatcher(outboxEventRepository, listeners, mock(TransactionTemplate.class),
+                meterRegistry, 100, Duration.ofSeconds(1), Duration.ofMinutes(5));
+        when(outboxEventRepository.lockDue(eq(NOW), any(Pageable.class))).thenReturn(List.of(event));
+    }
+
+    @Test
+    void shouldDeliverBatchAndDeleteItsEvents() {
+        // when
+        dispatcher.dispatchBatch(NOW);
+
+        // then
+        verify(listener).onBlobEvents(anyList());
+        verify(outboxEventRepository).deleteAllInBatch(List.of(event));
+        assertThat(meterRegistry.get("blob.events.lag").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("blob.events.dispatched").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepAndRescheduleEventsWhenListenerFails() {
+        // given
+        doThrow(new IllegalStateException("index unavailable")).when(listener).onBlobEvents(anyList());
+
+        // when
+        dispatcher.dispatchBatch(NOW);
+
+        // then
+        verify(outboxEventRepository, never()).deleteAllInBatch(anyList());
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(1));
+        assertThat(event.getLastError()).isEqualTo("index unavailable");
+    }
+}
@@ -0,0 +1,96 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.dto.BlobMetadata;
+import com.upskill.blob_storage_app.entity.Blob;
+import com.upskill.blob_storage_app.entity.User;
+import com.upskill.blob_storage_app.event.BlobDeletedEvent;
+import com.upskill.blob_storage_app.repository.BlobRepository;
+import com.upskill.blob_storage_app.valueobject.BlobId;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlobMetadataCacheTest {
+
+    private final BlobRepository blobRepository = mock(BlobRepository.class);
+    private final BlobMetadataCache cache = new BlobMetadataCache(blobRepository, 100, Duration.ofMinutes(10));
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        // given
+        Blob blob = blob("blob-1");
+        when(blobRepository.findByBlobId_Value("blob-1")).thenReturn(Optional.of(blob));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        // when
+        cache.get("blob-1");
+        Optional<BlobMetadata> second = cache.get("blob-1");
+
+        // then
+        assertThat(second).get().satisfies(metadata -> {
+            assertThat(metadata.isOwnedBy(blob.getUser().getId())).isTrue();
+            assertThat(metadata.getStorageLocation()).isEqualTo("ab/cd/blob-1/file.txt");
+        });
+        verify(blobRepository, times(1)).findByBlobId_Value("blob-1");
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReloadAfterBlobDeletedEvent() {
+        // given
+        Blob blob = blob("blob-1");
+        when(blobRepository.findByBlobId_Value("blob-1")).thenReturn(Optional.of(blob), Optional.empty());
+        cache.get("blob-1");
+
+        // when
+        cache.onBlobDeleted(new BlobDeletedEvent(blob));
+
+        // then
+        assertThat(cache.get("blob-1")).isEmpty();
+    }
+
+    @Test
+    void shouldLoadMissesOnTheCallingThread() {
+        // given
+        Thread caller = Thread.currentThread();
+        Thread[] loader = new Thread[1];
+        when(blobRepository.findByBlobId_Value("blob-1")).thenAnswer(invocation -> {
+            loader[0] = Thread.currentThread();
+            return Optional.of(blob("blob-1"));
+        });
+
+        // when
+        Optional<BlobMetadata> metadata = cache.get("blob-1");
+
+        // then
+        assertThat(metadata).isPresent();
+        assertThat(loader[0]).isSameAs(caller);
+    }
+
+    private static Blob blob(String blobId) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        Blob blob = new Blob();
+        blob.setBlobId(new BlobId(blobId));
+        blob.setUser(user);
+        blob.setFilename("file.txt");
+        blob.setContentType("text/plain");
+        blob.setSize(4L);
+        blob.setStorageProvider(StorageProvider.LOCAL);
+        blob.setStorageLocation("ab/cd/" + blobId + "/file.txt");
+        blob.setUpdatedAt(LocalDateTime.now());
+        return blob;
+    }
+}
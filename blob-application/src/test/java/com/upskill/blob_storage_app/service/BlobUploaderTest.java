@@ -0,0 +1,160 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.dto.BlobDownload;
+import com.upskill.blob_storage_app.port.output.BlobContent;
+import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.port.output.StreamBlobContent;
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlobUploaderTest {
+
+    private static final byte[] CONTENT = "timestamp,level,message\n".repeat(2000).getBytes(StandardCharsets.UTF_8);
+
+    private final BlobStoragePort storage = mock(BlobStoragePort.class);
+    private final ByteArrayOutputStream stored = new ByteArrayOutputStream();
+    private final UUID userId = UUID.randomUUID();
+
+    @ParameterizedTest
+    @EnumSource(value = CompressionCodec.class, names = {"GZIP", "ZSTD"})
+    void shouldCompressCompressibleUploadsAndDecodeThemOnDownload(CompressionCodec codec) throws Exception {
+        // given
+        BlobUploader uploader = new BlobUploader(mock(ContentAddressedStore.class), policy(codec));
+        when(storage.upload(any(InputStream.class), anyLong(), anyString(), anyString(), eq(StorageProvider.LOCAL)))
+                .thenAnswer(invocation -> {
+                    invocation.<InputStream>getArgument(0).transferTo(stored);
+                    return "ab/cd/app.log";
+                });
+
+        // when
+        BlobUploader.StoredContent result = uploader.store(userId, new ByteArrayInputStream(CONTENT), CONTENT.length,
+                "app.log", StorageProvider.LOCAL, storage);
+
+        // then
+        verify(storage).upload(any(InputStream.class), eq(-1L), eq("app.log"), anyString(), eq(StorageProvider.LOCAL));
+        assertThat(result.compressionCodec()).isEqualTo(codec);
+        assertThat(result.size()).isEqualTo(CONTENT.length);
+        assertThat(result.storedSize()).isEqualTo(stored.size()).isLessThan(CONTENT.length / 10);
+
+        BlobDownload download = downloadOf(result);
+        assertThat(read(download.open())).isEqualTo(CONTENT);
+        assertThat(read(download.open(24, 24))).isEqualTo("timestamp,level,message\n".getBytes(StandardCharsets.UTF_8));
+        assertThat(read(download.openEncoded())).isEqualTo(stored.toByteArray());
+    }
+
+    @Test
+    void shouldStoreAlreadyCompressedFormatsAsIs() {
+        // given
+        BlobUploader uploader = new BlobUploader(mock(ContentAddressedStore.class), policy(CompressionCodec.ZSTD));
+        when(storage.upload(any(InputStream.class), anyLong(), anyString(), anyString(), eq(StorageProvider.LOCAL)))
+                .thenAnswer(invocation -> {
+                    invocation.<InputStream>getArgument(0).transferTo(stored);
+                    return "ab/cd/photos.zip";
+                });
+
+        // when
+        BlobUploader.StoredContent result = uploader.store(userId, new ByteArrayInputStream(CONTENT), CONTENT.length,
+                "photos.zip", StorageProvider.LOCAL, storage);
+
+        // then
+        verify(storage).upload(any(InputStream.class), eq((long) CONTENT.length), eq("photos.zip"), anyString(), eq(StorageProvider.LOCAL));
+        assertThat(result.compressionCodec()).isEqualTo(CompressionCodec.NONE);
+        assertThat(result.storedSize()).isEqualTo(CONTENT.length);
+        assertThat(stored.toByteArray()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void shouldChecksumUploadsAndDetectCorruptionOnVerifiedDownload() throws Exception {
+        // given
+        BlobUploader uploader = new BlobUploader(mock(ContentAddressedStore.class), policy(CompressionCodec.ZSTD));
+        when(storage.upload(any(InputStream.class), anyLong(), anyString(), anyString(), eq(StorageProvider.LOCAL)))
+                .thenAnswer(invocation -> {
+                    invocation.<InputStream>getArgument(0).transferTo(stored);
+                    return "ab/cd/app.log";
+                });
+        BlobUploader.StoredContent result = uploader.store(userId, new ByteArrayInputStream(CONTENT), CONTENT.length,
+                "app.log", StorageProvider.LOCAL, storage);
+        byte[] corrupted = Arrays.copyOf(CONTENT, CONTENT.length);
+        corrupted[100] ^= 1;
+
+        // when / then
+        assertThat(result.contentHash()).isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(CONTENT)));
+        assertThat(read(verifiedDownload(result, stored.toByteArray(), result.compressionCodec()).open())).isEqualTo(CONTENT);
+        assertThatThrownBy(() -> read(verifiedDownload(result, corrupted, CompressionCodec.NONE).open()))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining(result.contentHash());
+    }
+
+    private CompressionPolicy policy(CompressionCodec codec) {
+        return new CompressionPolicy(true, codec, DataSize.ofKilobytes(1), List.of("text/*"), List.of("log", "csv"),
+                List.of(), 6, 3);
+    }
+
+    private BlobDownload downloadOf(BlobUploader.StoredContent result) {
+        BlobStoragePort reader = mock(BlobStoragePort.class);
+        when(reader.download(result.storageLocation(), StorageProvider.LOCAL))
+                .thenAnswer(invocation -> new StreamBlobContent(new ByteArrayInputStream(stored.toByteArray()), stored.size()));
+        return BlobDownload.builder()
+                .blobId("blob-1")
+                .filename("app.log")
+                .contentType("text/plain")
+                .size(result.size())
+                .lastModified(Instant.now())
+                .compressionCodec(result.compressionCodec())
+                .storedSize(result.storedSize())
+                .storage(reader)
+                .storageLocation(result.storageLocation())
+                .storageProvider(StorageProvider.LOCAL)
+                .build();
+    }
+
+    private BlobDownload verifiedDownload(BlobUploader.StoredContent result, byte[] content, CompressionCodec codec) {
+        BlobStoragePort reader = mock(BlobStoragePort.class);
+        when(reader.download(result.storageLocation(), StorageProvider.LOCAL))
+                .thenAnswer(invocation -> new StreamBlobContent(new ByteArrayInputStream(content), content.length));
+        return BlobDownload.builder()
+                .blobId("blob-1")
+                .size(result.size())
+                .compressionCodec(codec)
+                .contentHash(result.contentHash())
+                .verifyContent(true)
+                .storage(reader)
+                .storageLocation(result.storageLocation())
+                .storageProvider(StorageProvider.LOCAL)
+                .build();
+    }
+
+    private byte[] read(BlobContent content) throws Exception {
+        try (content) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            content.transferTo(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.entity.ContentObject;
+import com.upskill.blob_storage_app.entity.DeletionTombstone;
+import com.upskill.blob_storage_app.repository.ContentObjectRepository;
+import com.upskill.blob_storage_app.repository.DeletionTombstoneRepository;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContentReferenceRegistryTest {
+
+    private final ContentObjectRepository contentObjectRepository = mock(ContentObjectRepository.class);
+    private final DeletionTombstoneRepository tombstoneRepository = mock(DeletionTombstoneRepository.class);
+    private final ContentReferenceRegistry registry = new ContentReferenceRegistry(contentObjectRepository,
+            tombstoneRepository, mock(PlatformTransactionManager.class));
+    private final ContentObject contentObject = new ContentObject();
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+        contentObject.setContentHash("hash");
+        contentObject.setStorageProvider(StorageProvider.S3);
+        contentObject.setStorageLocation("cas/ha/sh/hash.1");
+        contentObject.setReferenceCount(1);
+        when(contentObjectRepository.findForUpdate("hash", StorageProvider.S3)).thenReturn(Optional.of(contentObject));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void shouldGiveTheReferenceBackWhenTheCallerRollsBack() {
+        // given
+        registry.releaseOnRollback("hash", StorageProvider.S3, "cas/ha/sh/hash.1");
+
+        // when
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        verify(contentObjectRepository).delete(contentObject);
+        verify(tombstoneRepository).save(any(DeletionTombstone.class));
+    }
+
+    @Test
+    void shouldKeepTheReferenceWhenTheCallerCommits() {
+        // given
+        registry.releaseOnRollback("hash", StorageProvider.S3, "cas/ha/sh/hash.1");
+
+        // when
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        verify(contentObjectRepository, never()).findForUpdate(any(), any());
+        verify(tombstoneRepository, never()).save(any());
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+    }
+}
@@ -0,0 +1,91 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.entity.DeletionTombstone;
+import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.repository.BlobRepository;
+import com.upskill.blob_storage_app.repository.ContentObjectRepository;
+import com.upskill.blob_storage_app.repository.DeletionTombstoneRepository;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StorageGarbageCollectorTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private final DeletionTombstoneRepository tombstoneRepository = mock(DeletionTombstoneRepository.class);
+    private final BlobRepository blobRepository = mock(BlobRepository.class);
+    private final ContentObjectRepository contentObjectRepository = mock(ContentObjectRepository.class);
+    private final BlobStoragePort storage = mock(BlobStoragePort.class);
+    private StorageGarbageCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        collector = new StorageGarbageCollector(tombstoneRepository, blobRepository, contentObjectRepository,
+                provider -> storage, mock(TransactionTemplate.class), 100,
+                Duration.ofSeconds(10), Duration.ofMinutes(1), true, List.of(StorageProvider.S3));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRemoveCollectedTombstonesAndBackOffFailedOnes() {
+        // given
+        DeletionTombstone gone = DeletionTombstone.of(StorageProvider.S3, "a");
+        DeletionTombstone failing = DeletionTombstone.of(StorageProvider.S3, "b");
+        failing.setAttempts(3);
+        when(tombstoneRepository.lockDue(eq(NOW), any(Pageable.class))).thenReturn(List.of(gone, failing));
+        when(storage.deleteAll(List.of("a", "b"), StorageProvider.S3)).thenReturn(Map.of("b", "AccessDenied"));
+
+        // when
+        int claimed = collector.collectBatch(NOW);
+
+        // then
+        assertThat(claimed).isEqualTo(2);
+        ArgumentCaptor<List<DeletionTombstone>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(tombstoneRepository).deleteAllInBatch(deleted.capture());
+        assertThat(deleted.getValue()).containsExactly(gone);
+        assertThat(failing.getAttempts()).isEqualTo(4);
+        assertThat(failing.getLastError()).isEqualTo("AccessDenied");
+        // 10s * 2^3 = 80s, capped at one minute
+        assertThat(failing.getNextAttemptAt()).isEqualTo(NOW.plus(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldTombstoneOrphansOnlyAfterTwoConsecutiveRuns() {
+        // given
+        when(storage.streamKeys("", null, StorageProvider.S3))
+                .thenAnswer(invocation -> Stream.of("referenced", "orphan"));
+        when(blobRepository.findReferencedLocations(eq(StorageProvider.S3), anyList())).thenReturn(List.of("referenced"));
+
+        // when
+        collector.reconcile(StorageProvider.S3);
+        collector.reconcile(StorageProvider.S3);
+
+        // then
+        ArgumentCaptor<List<DeletionTombstone>> saved = ArgumentCaptor.forClass(List.class);
+        verify(tombstoneRepository, times(2)).saveAll(saved.capture());
+        assertThat(saved.getAllValues().get(0)).isEmpty();
+        assertThat(saved.getAllValues().get(1))
+                .extracting(DeletionTombstone::getStorageLocation)
+                .containsExactly("orphan");
+    }
+}
@@ -0,0 +1,175 @@
+package com.upskill.blob_storage_app.service;
+
+import com.upskill.blob_storage_app.dto.PresignedTransfer;
+import com.upskill.blob_storage_app.dto.UploadSessionStatus;
+import com.upskill.blob_storage_app.entity.UploadSession;
+import com.upskill.blob_storage_app.entity.UploadSessionPart;
+import com.upskill.blob_storage_app.exception.IncompleteUploadException;
+import com.upskill.blob_storage_app.exception.InvalidUploadChunkException;
+import com.upskill.blob_storage_app.port.input.BlobUseCase;
+import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.port.output.StagedUpload;
+import com.upskill.blob_storage_app.port.output.StreamBlobContent;
+import com.upskill.blob_storage_app.repository.DeletionTombstoneRepository;
+import com.upskill.blob_storage_app.repository.UploadSessionPartRepository;
+import com.upskill.blob_storage_app.repository.UploadSessionRepository;
+import com.upskill.blob_storage_app.repository.UserRepository;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UploadSessionServiceTest {
+
+    private static final int CHUNK = 5 * 1024 * 1024;
+    // Two full chunks and a short last one
+    private static final int SIZE = 2 * CHUNK + 2;
+    // SHA-256 of the SIZE zero bytes the tests upload
+    private static final String CONTENT_HASH = "bbc958928b35f8d76bfd68661d0f7effc08ce4d141a4e55bec8e449e4dcfb443";
+
+    private final UploadSessionRepository sessionRepository = mock(UploadSessionRepository.class);
+    private final UploadSessionPartRepository partRepository = mock(UploadSessionPartRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final BlobStoragePort storage = mock(BlobStoragePort.class);
+    private final BlobUseCase blobUseCase = mock(BlobUseCase.class);
+    private final StagedUpload staged = new StagedUpload("ab/cd/upload/notes.txt", "staging-1");
+    private final List<UploadSessionPart> parts = new ArrayList<>();
+    private final UUID userId = UUID.randomUUID();
+    private UploadSessionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = service(DataSize.ofBytes(CHUNK));
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(storage.beginStaged("notes.txt", "text/plain", StorageProvider.LOCAL)).thenReturn(staged);
+        when(storage.uploadPart(eq(staged), anyInt(), any(InputStream.class), anyLong(), eq(StorageProvider.LOCAL)))
+                .thenAnswer(invocation -> {
+                    invocation.<InputStream>getArgument(2).transferTo(OutputStream.nullOutputStream());
+                    return "tag-" + invocation.getArgument(1);
+                });
+        when(storage.download(staged.location(), StorageProvider.LOCAL))
+                .thenAnswer(invocation -> new StreamBlobContent(new ByteArrayInputStream(new byte[SIZE]), SIZE));
+        when(sessionRepository.save(any(UploadSession.class))).thenAnswer(invocation -> {
+            UploadSession session = invocation.getArgument(0);
+            session.setId(UUID.randomUUID());
+            when(sessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+            when(sessionRepository.findForUpdate(session.getId())).thenReturn(Optional.of(session));
+            return session;
+        });
+        when(partRepository.findBySessionIdAndPartNumber(any(), anyInt())).thenReturn(Optional.empty());
+        when(partRepository.saveAndFlush(any(UploadSessionPart.class))).thenAnswer(invocation -> {
+            parts.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(partRepository.findBySessionIdOrderByPartNumber(any())).thenAnswer(invocation -> parts.stream()
+                .sorted(Comparator.comparingInt(UploadSessionPart::getPartNumber))
+                .toList());
+    }
+
+    @Test
+    void shouldAcceptChunksInAnyOrderAndRegisterChecksummedBlobOnCompletion() {
+        // given
+        UploadSessionStatus created = service.createSession(userId, "notes.txt", "text/plain", SIZE, StorageProvider.LOCAL);
+        UUID sessionId = UUID.fromString(created.getSessionId());
+        when(blobUseCase.registerBlob(userId, "notes.txt", "text/plain", (long) SIZE, StorageProvider.LOCAL, staged.location(), CONTENT_HASH))
+                .thenReturn("blob-1");
+
+        // when
+        service.uploadChunk(userId, sessionId, 2L * CHUNK, chunk(2), 2);
+        UploadSessionStatus status = service.uploadChunk(userId, sessionId, 0, chunk(CHUNK), CHUNK);
+        service.uploadChunk(userId, sessionId, CHUNK, chunk(CHUNK), CHUNK);
+        String blobId = service.completeSession(userId, sessionId, null);
+
+        // then
+        assertThat(created.getChunkCount()).isEqualTo(3);
+        assertThat(status.getReceived()).containsExactly(
+                new UploadSessionStatus.ReceivedRange(0, CHUNK - 1), new UploadSessionStatus.ReceivedRange(2L * CHUNK, SIZE - 1));
+        assertThat(blobId).isEqualTo("blob-1");
+        verify(storage).completeStaged(staged, List.of("tag-1", "tag-2", "tag-3"), StorageProvider.LOCAL);
+        verify(partRepository).deleteBySessionId(sessionId);
+    }
+
+    @Test
+    void shouldRejectMisalignedChunksAndCompletionWithMissingChunks() {
+        // given
+        UploadSessionStatus created = service.createSession(userId, "notes.txt", "text/plain", SIZE, StorageProvider.LOCAL);
+        UUID sessionId = UUID.fromString(created.getSessionId());
+        service.uploadChunk(userId, sessionId, 0, chunk(CHUNK), CHUNK);
+
+        // when / then
+        assertThatThrownBy(() -> service.uploadChunk(userId, sessionId, 3, chunk(CHUNK), CHUNK))
+                .isInstanceOf(InvalidUploadChunkException.class);
+        assertThatThrownBy(() -> service.uploadChunk(userId, sessionId, 2L * CHUNK, chunk(CHUNK), CHUNK))
+                .isInstanceOf(InvalidUploadChunkException.class);
+        assertThatThrownBy(() -> service.completeSession(userId, sessionId, null))
+                .isInstanceOf(IncompleteUploadException.class)
+                .hasMessageContaining("missing 2 chunks");
+        verify(storage, never()).completeStaged(any(), any(), any());
+        verify(blobUseCase, never()).registerBlob(any(), any(), any(), anyLong(), any(), any(), isNull());
+    }
+
+    @Test
+    void shouldPresignChunksAndCompleteWithTheTagsStorageReturned() {
+        // given
+        UploadSessionStatus created = service.createSession(userId, "notes.txt", "text/plain", SIZE, StorageProvider.LOCAL);
+        UUID sessionId = UUID.fromString(created.getSessionId());
+        when(storage.presignPart(eq(staged), anyInt(), anyLong(), any(Duration.class), eq(StorageProvider.LOCAL)))
+                .thenAnswer(invocation -> "https://storage/part-" + invocation.getArgument(1));
+
+        // when
+        List<PresignedTransfer> transfers = service.presignChunks(userId, sessionId, CHUNK, 100);
+        service.completeSession(userId, sessionId, List.of("t1", "t2", "t3"));
+
+        // then
+        assertThat(transfers).extracting(PresignedTransfer::getUrl, PresignedTransfer::getOffset, PresignedTransfer::getLength)
+                .containsExactly(tuple("https://storage/part-2", (long) CHUNK, (long) CHUNK),
+                        tuple("https://storage/part-3", 2L * CHUNK, 2L));
+        assertThat(transfers.get(0).getExpiresAt()).isBeforeOrEqualTo(created.getExpiresAt());
+        verify(storage).completeStaged(staged, List.of("t1", "t2", "t3"), StorageProvider.LOCAL);
+        verify(blobUseCase).registerBlob(userId, "notes.txt", "text/plain", (long) SIZE, StorageProvider.LOCAL, staged.location(), CONTENT_HASH);
+    }
+
+    @Test
+    void shouldRejectChunkSizesBelowTheSmallestS3Part() {
+        // when / then
+        assertThatThrownBy(() -> service(DataSize.ofMegabytes(4)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("storage.upload-sessions.chunk-size");
+    }
+
+    private UploadSessionService service(DataSize chunkSize) {
+        return new UploadSessionService(sessionRepository, partRepository, userRepository,
+                mock(DeletionTombstoneRepository.class), provider -> storage, blobUseCase,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                chunkSize, Duration.ofHours(1), Duration.ofMinutes(5), 100, Duration.ofMinutes(15));
+    }
+
+    private InputStream chunk(int length) {
+        return new ByteArrayInputStream(new byte[length]);
+    }
+}
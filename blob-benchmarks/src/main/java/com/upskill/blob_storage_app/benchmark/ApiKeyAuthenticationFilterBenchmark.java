@@ -0,0 +1,98 @@
+package com.upskill.blob_storage_app.benchmark;
+
+import com.upskill.blob_storage_app.entity.ApiKey;
+import com.upskill.blob_storage_app.entity.User;
+import com.upskill.blob_storage_app.repository.ApiKeyRepository;
+import com.upskill.blob_storage_app.security.ApiKeyAuthenticationCache;
+import com.upskill.blob_storage_app.security.ApiKeyAuthenticationFilter;
+import com.upskill.blob_storage_app.security.ApiKeyUsageTracker;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One request through {@link ApiKeyAuthenticationFilter} with a warm cache: a valid key, a key
+ * the negative cache already rejected, and no key at all. The security context is cleared after
+ * each request, as Spring Security's filter chain does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiKeyAuthenticationFilterBenchmark {
+
+    private static final String VALID_KEY = "benchmark-api-key";
+
+    @Param({"valid", "unknown", "missing"})
+    public String apiKey;
+
+    private ApiKeyAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private Authentication authentication;
+    private final FilterChain chain = (request, response) -> authentication = SecurityContextHolder.getContext().getAuthentication();
+
+    @Setup(Level.Trial)
+    public void setUp() throws ServletException, IOException {
+        User user = User.builder().id(UUID.randomUUID()).build();
+        ApiKey key = ApiKey.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .keyHash(ApiKeyAuthenticationCache.digest(VALID_KEY))
+                .name("benchmark")
+                .isActive(true)
+                .build();
+        InMemoryRepository<ApiKey> apiKeys = InMemoryRepository.keyedBy(ApiKey::getKeyHash, row -> {
+        });
+        apiKeys.query("findByKeyHash", args -> apiKeys.find(args[0]));
+        ApiKeyRepository repository = apiKeys.as(ApiKeyRepository.class);
+        repository.save(key);
+
+        ApiKeyAuthenticationCache cache = new ApiKeyAuthenticationCache(repository, 10_000,
+                Duration.ofMinutes(5), Duration.ofSeconds(30));
+        filter = new ApiKeyAuthenticationFilter(cache, new ApiKeyUsageTracker(repository));
+        request = new MockHttpServletRequest("GET", "/api/v1/blobs/blob-1");
+        response = new MockHttpServletResponse();
+        switch (apiKey) {
+            case "valid" -> request.addHeader("X-API-Key", VALID_KEY);
+            case "unknown" -> request.addHeader("X-API-Key", "unknown-api-key");
+            default -> {
+            }
+        }
+        // Loads the cache entry, so the measurement is the steady state
+        authenticate();
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws ServletException, IOException {
+        try {
+            // OncePerRequestFilter clears its marker attribute afterwards, so the request can be reused
+            filter.doFilter(request, response, chain);
+            return authentication;
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.upskill.blob_storage_app.benchmark;
+
+import com.upskill.blob_storage_app.entity.Blob;
+import com.upskill.blob_storage_app.entity.User;
+import com.upskill.blob_storage_app.port.output.BlobContent;
+import com.upskill.blob_storage_app.repository.BlobRepository;
+import com.upskill.blob_storage_app.repository.OutboxEventRepository;
+import com.upskill.blob_storage_app.repository.UserRepository;
+import com.upskill.blob_storage_app.service.BlobDomainService;
+import com.upskill.blob_storage_app.service.BlobEventOutbox;
+import com.upskill.blob_storage_app.service.BlobMetadataCache;
+import com.upskill.blob_storage_app.service.BlobService;
+import com.upskill.blob_storage_app.service.BlobUploader;
+import com.upskill.blob_storage_app.service.CompressionPolicy;
+import com.upskill.blob_storage_app.service.ContentAddressedStore;
+import com.upskill.blob_storage_app.storage.local.LocalStorageAdapter;
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BlobService} upload and download over local storage with the repositories held in
+ * memory, so the numbers are the service's own overhead plus the file system. Built by hand
+ * rather than from a Spring context: without the proxies there are no transactions, which is
+ * the point, and dedup and compression stay off as they are by default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlobServiceBenchmark {
+
+    private static final StorageProvider PROVIDER = StorageProvider.LOCAL;
+
+    @Param({"1024", "1048576"})
+    public int objectSize;
+
+    private Path basePath;
+    private ExecutorService deleteExecutor;
+    private LocalStorageAdapter storage;
+    private InMemoryRepository<Blob> blobs;
+    private BlobMetadataCache metadataCache;
+    private BlobService service;
+    private UUID userId;
+    private byte[] payload;
+    private String downloadBlobId;
+    private final Queue<String> uploaded = new ConcurrentLinkedQueue<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        basePath = Files.createTempDirectory("blob-benchmark");
+        deleteExecutor = Executors.newFixedThreadPool(4);
+        storage = LocalStorageAdapterBenchmark.localStorageAdapter(basePath, deleteExecutor);
+
+        User user = User.builder().id(UUID.randomUUID()).email("benchmark@example.com").passwordHash("-").build();
+        userId = user.getId();
+        InMemoryRepository<User> users = InMemoryRepository.keyedBy(User::getId, row -> {
+        });
+        users.as(UserRepository.class).save(user);
+        blobs = InMemoryRepository.<Blob>keyedBy(blob -> blob.getBlobId().getValue(), blob -> {
+                    if (blob.getId() == null) {
+                        blob.setId(UUID.randomUUID());
+                        blob.setCreatedAt(LocalDateTime.now());
+                    }
+                    blob.setUpdatedAt(LocalDateTime.now());
+                })
+                .query("findByBlobId_Value", args -> blobs.find(args[0]));
+        BlobRepository blobRepository = blobs.as(BlobRepository.class);
+
+        CompressionPolicy compressionPolicy = new CompressionPolicy(false, CompressionCodec.ZSTD, DataSize.ofKilobytes(1),
+                List.of(), List.of(), List.of(), 6, 3);
+        ContentAddressedStore contentAddressedStore = new ContentAddressedStore(null, null, null, compressionPolicy);
+        metadataCache = new BlobMetadataCache(blobRepository, 100_000, Duration.ofMinutes(10));
+        service = new BlobService(blobRepository, users.as(UserRepository.class), provider -> storage,
+                new BlobDomainService(event -> {
+                }),
+                contentAddressedStore, metadataCache, new BlobUploader(contentAddressedStore, compressionPolicy), null,
+                new BlobEventOutbox(InMemoryRepository.discarding().as(OutboxEventRepository.class)),
+                new TransactionTemplate());
+
+        payload = new byte[objectSize];
+        ThreadLocalRandom.current().nextBytes(payload);
+        downloadBlobId = service.uploadBlob(userId, new ByteArrayInputStream(payload), payload.length, "download.bin", PROVIDER);
+    }
+
+    @TearDown(Level.Iteration)
+    public void removeUploads() {
+        List<String> locations = new ArrayList<>();
+        for (String blobId; (blobId = uploaded.poll()) != null; ) {
+            Optional<Blob> blob = blobs.find(blobId);
+            blob.ifPresent(stored -> locations.add(stored.getStorageLocation()));
+            blobs.remove(blobId);
+            metadataCache.invalidate(blobId);
+        }
+        storage.deleteAll(locations, PROVIDER);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        deleteExecutor.shutdownNow();
+        FileSystemUtils.deleteRecursively(basePath);
+    }
+
+    @Benchmark
+    public String upload() {
+        String blobId = service.uploadBlob(userId, new ByteArrayInputStream(payload), payload.length, "upload.bin", PROVIDER);
+        uploaded.add(blobId);
+        return blobId;
+    }
+
+    @Benchmark
+    public long download() throws IOException {
+        try (BlobContent content = service.downloadBlob(userId, downloadBlobId, PROVIDER).open()) {
+            return content.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    // Every download misses the metadata cache and goes to the repository
+    @Benchmark
+    public long downloadUncached() throws IOException {
+        metadataCache.invalidate(downloadBlobId);
+        return download();
+    }
+}
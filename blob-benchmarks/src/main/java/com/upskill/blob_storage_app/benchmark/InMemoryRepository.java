@@ -0,0 +1,90 @@
+package com.upskill.blob_storage_app.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A Spring Data repository interface backed by a map, so service benchmarks measure the service
+ * rather than a database. Implements save, saveAll, findById and existsById; derived queries are
+ * registered by method name and anything else throws, which keeps an unexpected query visible.
+ */
+final class InMemoryRepository<T> implements InvocationHandler {
+    private final Map<Object, T> rows = new ConcurrentHashMap<>();
+    private final Map<String, Function<Object[], Object>> queries = new HashMap<>();
+    private final Function<T, Object> key;
+    private final Consumer<T> onSave;
+
+    private InMemoryRepository(Function<T, Object> key, Consumer<T> onSave) {
+        this.key = key;
+        this.onSave = onSave;
+    }
+
+    // onSave stands in for what JPA does on persist, such as generating ids and timestamps
+    static <T> InMemoryRepository<T> keyedBy(Function<T, Object> key, Consumer<T> onSave) {
+        return new InMemoryRepository<>(key, onSave);
+    }
+
+    // For append-only tables nothing reads back, such as the outbox; memory stays flat over a run
+    static <T> InMemoryRepository<T> discarding() {
+        return new InMemoryRepository<>(null, row -> {
+        });
+    }
+
+    InMemoryRepository<T> query(String method, Function<Object[], Object> query) {
+        queries.put(method, query);
+        return this;
+    }
+
+    Optional<T> find(Object id) {
+        return Optional.ofNullable(rows.get(id));
+    }
+
+    void remove(Object id) {
+        rows.remove(id);
+    }
+
+    <R> R as(Class<R> repositoryType) {
+        return repositoryType.cast(Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType}, this));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "save", "saveAndFlush" -> save((T) args[0]);
+            case "saveAll" -> {
+                ((Collection<T>) args[0]).forEach(this::save);
+                yield args[0];
+            }
+            case "findById" -> find(args[0]);
+            case "existsById" -> rows.containsKey(args[0]);
+            case "count" -> (long) rows.size();
+            case "toString" -> "InMemoryRepository" + rows.keySet();
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> {
+                Function<Object[], Object> query = queries.get(method.getName());
+                if (query == null) {
+                    throw new UnsupportedOperationException("Not supported in memory: " + method);
+                }
+                yield query.apply(args);
+            }
+        };
+    }
+
+    private T save(T row) {
+        onSave.accept(row);
+        if (key != null) {
+            rows.put(key.apply(row), row);
+        }
+        return row;
+    }
+}
@@ -0,0 +1,145 @@
+package com.upskill.blob_storage_app.benchmark;
+
+import com.upskill.blob_storage_app.port.output.BlobContent;
+import com.upskill.blob_storage_app.storage.local.LocalStorageAdapter;
+import com.upskill.blob_storage_app.storage.local.LocalUrlSigner;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Upload, download and listing against {@link LocalStorageAdapter} on a temp directory, per
+ * object size and per number of objects already in the store. The store is seeded with
+ * one-byte objects so the population shapes the shard directories without filling the disk;
+ * objects uploaded by the benchmark are removed after each iteration so it does not drift.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocalStorageAdapterBenchmark {
+
+    private static final StorageProvider PROVIDER = StorageProvider.LOCAL;
+
+    @Param({"1024", "1048576", "8388608"})
+    public int objectSize;
+
+    @Param({"0", "10000", "100000"})
+    public int population;
+
+    private Path basePath;
+    private ExecutorService deleteExecutor;
+    private LocalStorageAdapter adapter;
+    private byte[] payload;
+    private String downloadKey;
+    private List<String> listPrefixes;
+    private final Queue<String> uploaded = new ConcurrentLinkedQueue<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        basePath = Files.createTempDirectory("blob-benchmark");
+        deleteExecutor = Executors.newFixedThreadPool(4);
+        adapter = localStorageAdapter(basePath, deleteExecutor);
+        payload = new byte[objectSize];
+        ThreadLocalRandom.current().nextBytes(payload);
+
+        listPrefixes = new ArrayList<>();
+        byte[] seed = {1};
+        for (int i = 0; i < population; i++) {
+            String key = adapter.upload(new ByteArrayInputStream(seed), seed.length, "seed.bin", "application/octet-stream", PROVIDER);
+            if (i < 64) {
+                // The shard prefix of a stored object, as a listing by an ab/cd/ prefix sees it
+                listPrefixes.add(key.substring(0, 6));
+            }
+        }
+        if (listPrefixes.isEmpty()) {
+            listPrefixes.add("00/00/");
+        }
+        downloadKey = adapter.upload(new ByteArrayInputStream(payload), payload.length, "download.bin", "application/octet-stream", PROVIDER);
+    }
+
+    @TearDown(Level.Iteration)
+    public void removeUploads() {
+        List<String> keys = new ArrayList<>();
+        for (String key; (key = uploaded.poll()) != null; ) {
+            keys.add(key);
+        }
+        adapter.deleteAll(keys, PROVIDER);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        deleteExecutor.shutdownNow();
+        FileSystemUtils.deleteRecursively(basePath);
+    }
+
+    @Benchmark
+    public String upload() {
+        String key = adapter.upload(new ByteArrayInputStream(payload), payload.length, "upload.bin", "application/octet-stream", PROVIDER);
+        uploaded.add(key);
+        return key;
+    }
+
+    @Benchmark
+    public long download() throws IOException {
+        try (BlobContent content = adapter.download(downloadKey, PROVIDER)) {
+            return content.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    @Benchmark
+    public void listShard(Blackhole blackhole) {
+        String prefix = listPrefixes.get(ThreadLocalRandom.current().nextInt(listPrefixes.size()));
+        try (Stream<String> keys = adapter.streamKeys(prefix, "/", PROVIDER)) {
+            keys.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void listShardRecursive(Blackhole blackhole) {
+        String prefix = listPrefixes.get(ThreadLocalRandom.current().nextInt(listPrefixes.size()));
+        try (Stream<String> keys = adapter.streamKeys(prefix, null, PROVIDER)) {
+            keys.forEach(blackhole::consume);
+        }
+    }
+
+    static LocalStorageAdapter localStorageAdapter(Path basePath, ExecutorService deleteExecutor) {
+        LocalStorageAdapter adapter = new LocalStorageAdapter(deleteExecutor, new LocalUrlSigner("benchmark", "http://localhost:8080", ""));
+        // Injected from storage.local.base-path in the application
+        var field = ReflectionUtils.findField(LocalStorageAdapter.class, "basePath");
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, adapter, basePath.toString());
+        return adapter;
+    }
+}
@@ -0,0 +1,44 @@
+package com.upskill.blob_storage_app.storage.local;
+
+import com.upskill.blob_storage_app.valueobject.BlobId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Identifier and storage key generation, which every upload goes through. Lives in the adapter's
+ * package to reach {@link LocalStorageAdapter#shardedKey} without widening it. Run with more
+ * threads ({@code -t}) to see contention on the shared {@code SecureRandom} behind random UUIDs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(1)
+public class KeyGenerationBenchmark {
+
+    @Benchmark
+    public BlobId blobId() {
+        return BlobId.generate();
+    }
+
+    @Benchmark
+    public String shardedKey() {
+        return LocalStorageAdapter.shardedKey(UUID.randomUUID().toString(), "report.txt");
+    }
+
+    // The formatting alone, with the random part taken out
+    @Benchmark
+    public String shardedKeyFormat() {
+        return LocalStorageAdapter.shardedKey("0f1e2d3c-4b5a-6978-8796-a5b4c3d2e1f0", "report.txt");
+    }
+}
@@ -1,15 +1,26 @@
 package com.upskill.blob_storage_app.repository;
 
 import com.upskill.blob_storage_app.entity.ApiKey;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface ApiKeyRepository extends JpaRepository<ApiKey, UUID> {
     List<ApiKey> findByUserId(UUID userId);
     Optional<ApiKey> findByKeyHash(String keyHash);
     boolean existsByKeyHash(String keyHash);
+
+    @Transactional
+    @Modifying
+    @Query("update ApiKey k set k.lastUsedAt = :usedAt where k.id in :ids")
+    int updateLastUsedAt(@Param("ids") Collection<UUID> ids, @Param("usedAt") Instant usedAt);
 } 
\ No newline at end of file
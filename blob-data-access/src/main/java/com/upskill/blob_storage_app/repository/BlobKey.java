@@ -0,0 +1,11 @@
+package com.upskill.blob_storage_app.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Listing projection: the public blob id plus the (createdAt, id) sort key the next page
+ * resumes from.
+ */
+public record BlobKey(String blobId, LocalDateTime createdAt, UUID id) {
+}
@@ -0,0 +1,13 @@
+package com.upskill.blob_storage_app.repository;
+
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+
+import java.util.UUID;
+
+/**
+ * Projection of what a delete needs to know about a blob: its row, where its content lives and
+ * whether that content is shared through a content hash.
+ */
+public record BlobLocation(UUID id, String blobId, StorageProvider storageProvider,
+                           String storageLocation, String contentHash) {
+}
@@ -1,11 +1,18 @@
 package com.upskill.blob_storage_app.repository;
 
 import com.upskill.blob_storage_app.entity.Blob;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,4 +23,52 @@ public interface BlobRepository extends JpaRepository<Blob, UUID> {
     Page<Blob> findByUserId(UUID userId, Pageable pageable);
     List<Blob> findByUserId(UUID userId);
     void deleteByBlobId_Value(String blobId);
+
+    // Keyset pagination over idx_blobs_user_created_id; pass PageRequest.of(0, limit)
+    @Query("select new com.upskill.blob_storage_app.repository.BlobKey(b.blobId.value, b.createdAt, b.id) "
+            + "from Blob b where b.user.id = :userId order by b.createdAt, b.id")
+    List<BlobKey> findKeysByUserId(@Param("userId") UUID userId, Pageable limit);
+
+    @Query("select new com.upskill.blob_storage_app.repository.BlobKey(b.blobId.value, b.createdAt, b.id) "
+            + "from Blob b where b.user.id = :userId "
+            + "and (b.createdAt > :createdAt or (b.createdAt = :createdAt and b.id > :id)) "
+            + "order by b.createdAt, b.id")
+    List<BlobKey> findKeysByUserIdAfter(@Param("userId") UUID userId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") UUID id,
+                                        Pageable limit);
+
+    @Query("select new com.upskill.blob_storage_app.repository.BlobLocation("
+            + "b.id, b.blobId.value, b.storageProvider, b.storageLocation, b.contentHash) "
+            + "from Blob b where b.user.id = :userId and b.blobId.value in :blobIds")
+    List<BlobLocation> findLocationsByUserIdAndBlobIds(@Param("userId") UUID userId,
+                                                       @Param("blobIds") Collection<String> blobIds);
+
+    // Keyset over id; start from new UUID(0, 0) and pass PageRequest.of(0, limit)
+    @Query("select new com.upskill.blob_storage_app.repository.BlobLocation("
+            + "b.id, b.blobId.value, b.storageProvider, b.storageLocation, b.contentHash) "
+            + "from Blob b where b.user.id = :userId and b.filename like :pattern escape '\\' and b.id > :afterId "
+            + "order by b.id")
+    List<BlobLocation> findLocationsByUserIdAndFilenameLike(@Param("userId") UUID userId,
+                                                            @Param("pattern") String pattern,
+                                                            @Param("afterId") UUID afterId,
+                                                            Pageable limit);
+
+    @Query("select b.storageLocation from Blob b "
+            + "where b.storageProvider = :provider and b.storageLocation in :locations")
+    List<String> findReferencedLocations(@Param("provider") StorageProvider provider,
+                                         @Param("locations") Collection<String> locations);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Blob b where b.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update Blob b set b.storageLocation = :newLocation "
+            + "where b.storageProvider = :provider and b.storageLocation = :oldLocation")
+    int updateStorageLocation(@Param("provider") StorageProvider provider,
+                              @Param("oldLocation") String oldLocation,
+                              @Param("newLocation") String newLocation);
 } 
\ No newline at end of file
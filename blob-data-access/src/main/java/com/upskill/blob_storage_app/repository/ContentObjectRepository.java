@@ -0,0 +1,36 @@
+package com.upskill.blob_storage_app.repository;
+
+import com.upskill.blob_storage_app.entity.ContentObject;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ContentObjectRepository extends JpaRepository<ContentObject, UUID> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from ContentObject c where c.contentHash = :contentHash and c.storageProvider = :provider")
+    Optional<ContentObject> findForUpdate(@Param("contentHash") String contentHash, @Param("provider") StorageProvider provider);
+
+    Optional<ContentObject> findByContentHashAndStorageProvider(String contentHash, StorageProvider provider);
+
+    @Query("select c.storageLocation from ContentObject c "
+            + "where c.storageProvider = :provider and c.storageLocation in :locations")
+    List<String> findReferencedLocations(@Param("provider") StorageProvider provider,
+                                         @Param("locations") Collection<String> locations);
+
+    // Objects at zero references are being deleted and must not be resurrected
+    @Modifying
+    @Query("update ContentObject c set c.referenceCount = c.referenceCount + 1 "
+            + "where c.contentHash = :contentHash and c.storageProvider = :provider and c.referenceCount > 0")
+    int incrementReferences(@Param("contentHash") String contentHash, @Param("provider") StorageProvider provider);
+}
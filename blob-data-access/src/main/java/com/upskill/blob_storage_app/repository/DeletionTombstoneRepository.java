@@ -0,0 +1,32 @@
+package com.upskill.blob_storage_app.repository;
+
+import com.upskill.blob_storage_app.entity.DeletionTombstone;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DeletionTombstoneRepository extends JpaRepository<DeletionTombstone, UUID> {
+    // SKIP LOCKED (lock timeout -2), so several instances can collect without double deletes
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select t from DeletionTombstone t where t.nextAttemptAt <= :now order by t.nextAttemptAt")
+    List<DeletionTombstone> lockDue(@Param("now") Instant now, Pageable limit);
+
+    @Query("select t.storageLocation from DeletionTombstone t "
+            + "where t.storageProvider = :provider and t.storageLocation in :locations")
+    List<String> findPendingLocations(@Param("provider") StorageProvider provider,
+                                      @Param("locations") Collection<String> locations);
+}
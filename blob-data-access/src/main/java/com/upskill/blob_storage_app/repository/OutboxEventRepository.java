@@ -0,0 +1,29 @@
+package com.upskill.blob_storage_app.repository;
+
+import com.upskill.blob_storage_app.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+    // SKIP LOCKED (lock timeout -2), so several instances can dispatch without delivering a batch twice
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.nextAttemptAt <= :now order by e.occurredAt")
+    List<OutboxEvent> lockDue(@Param("now") Instant now, Pageable limit);
+
+    @Query("select min(e.occurredAt) from OutboxEvent e")
+    Optional<Instant> findOldestOccurredAt();
+}
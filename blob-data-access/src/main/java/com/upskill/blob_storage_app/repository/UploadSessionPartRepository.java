@@ -0,0 +1,23 @@
+package com.upskill.blob_storage_app.repository;
+
+import com.upskill.blob_storage_app.entity.UploadSessionPart;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UploadSessionPartRepository extends JpaRepository<UploadSessionPart, UUID> {
+    List<UploadSessionPart> findBySessionIdOrderByPartNumber(UUID sessionId);
+
+    Optional<UploadSessionPart> findBySessionIdAndPartNumber(UUID sessionId, int partNumber);
+
+    @Modifying
+    @Query("delete from UploadSessionPart p where p.sessionId = :sessionId")
+    int deleteBySessionId(@Param("sessionId") UUID sessionId);
+}
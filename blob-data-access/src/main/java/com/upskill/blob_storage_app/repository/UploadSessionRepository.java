@@ -0,0 +1,31 @@
+package com.upskill.blob_storage_app.repository;
+
+import com.upskill.blob_storage_app.entity.UploadSession;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, UUID> {
+    // Completion and abort hold this so a session is only ever finished once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UploadSession s where s.id = :id")
+    Optional<UploadSession> findForUpdate(@Param("id") UUID id);
+
+    // SKIP LOCKED (lock timeout -2), so sessions being completed are left alone
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select s from UploadSession s where s.expiresAt <= :now order by s.expiresAt")
+    List<UploadSession> lockExpired(@Param("now") Instant now, Pageable limit);
+}
@@ -1,6 +1,7 @@
 package com.upskill.blob_storage_app.entity;
 
 import com.upskill.blob_storage_app.valueobject.BlobId;
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
 import com.upskill.blob_storage_app.valueobject.StorageProvider;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -11,7 +12,8 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "blobs")
+@Table(name = "blobs",
+        indexes = @Index(name = "idx_blobs_user_created_id", columnList = "user_id, created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -43,12 +45,31 @@ public class Blob {
     @Column(nullable = false)
     private String storageLocation;
 
+    @Column(length = 64)
+    private String contentHash;
+
+    // Null on rows written before compression, read back as NONE
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private CompressionCodec compressionCodec;
+
+    // Bytes held by the backend, which differs from size once compressed
+    private Long storedSize;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    public CompressionCodec getCompressionCodec() {
+        return compressionCodec == null ? CompressionCodec.NONE : compressionCodec;
+    }
+
+    public Long getStoredSize() {
+        return storedSize == null ? size : storedSize;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
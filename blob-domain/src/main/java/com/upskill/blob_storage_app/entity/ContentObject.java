@@ -0,0 +1,67 @@
+package com.upskill.blob_storage_app.entity;
+
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A physical object in content-addressed storage, shared by every {@link Blob} with the same
+ * SHA-256 on the same provider. The object is removed once the last reference goes.
+ */
+@Entity
+@Table(name = "content_objects",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"content_hash", "storage_provider"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class ContentObject {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StorageProvider storageProvider;
+
+    @Column(nullable = false)
+    private String storageLocation;
+
+    @Column(nullable = false)
+    private Long size;
+
+    // Null on rows written before compression, read back as NONE
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private CompressionCodec compressionCodec;
+
+    // Bytes held by the backend, which differs from size once compressed
+    private Long storedSize;
+
+    @Column(nullable = false)
+    private long referenceCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public CompressionCodec getCompressionCodec() {
+        return compressionCodec == null ? CompressionCodec.NONE : compressionCodec;
+    }
+
+    public Long getStoredSize() {
+        return storedSize == null ? size : storedSize;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,59 @@
+package com.upskill.blob_storage_app.entity;
+
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A physical object whose metadata is gone and which is waiting to be deleted from storage.
+ * Written in the same transaction that removes the last reference, so a rollback keeps both
+ * the row and the object; the garbage collector deletes the object and then the tombstone.
+ */
+@Entity
+@Table(name = "deletion_tombstones",
+        indexes = @Index(name = "idx_deletion_tombstones_next_attempt", columnList = "next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class DeletionTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StorageProvider storageProvider;
+
+    @Column(nullable = false)
+    private String storageLocation;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(length = 1024)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public static DeletionTombstone of(StorageProvider provider, String storageLocation) {
+        DeletionTombstone tombstone = new DeletionTombstone();
+        tombstone.setStorageProvider(provider);
+        tombstone.setStorageLocation(storageLocation);
+        tombstone.setNextAttemptAt(Instant.now());
+        return tombstone;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = Instant.now();
+    }
+}
@@ -0,0 +1,79 @@
+package com.upskill.blob_storage_app.entity;
+
+import com.upskill.blob_storage_app.valueobject.BlobEventType;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A blob change recorded in the transaction that made it, waiting to be delivered to event
+ * listeners. The row carries everything a listener needs, since the blob itself may be gone
+ * by the time the event is dispatched.
+ */
+@Entity
+@Table(name = "blob_event_outbox",
+        indexes = {
+                @Index(name = "idx_blob_event_outbox_next_attempt", columnList = "next_attempt_at, occurred_at"),
+                @Index(name = "idx_blob_event_outbox_occurred", columnList = "occurred_at")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BlobEventType type;
+
+    @Column(nullable = false)
+    private String blobId;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StorageProvider storageProvider;
+
+    @Column(nullable = false)
+    private String storageLocation;
+
+    private Long size;
+
+    @Column(length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(length = 1024)
+    private String lastError;
+
+    public static OutboxEvent of(BlobEventType type, String blobId, UUID userId,
+                                 StorageProvider provider, String storageLocation) {
+        OutboxEvent event = new OutboxEvent();
+        event.setType(type);
+        event.setBlobId(blobId);
+        event.setUserId(userId);
+        event.setStorageProvider(provider);
+        event.setStorageLocation(storageLocation);
+        Instant now = Instant.now();
+        event.setOccurredAt(now);
+        event.setNextAttemptAt(now);
+        return event;
+    }
+}
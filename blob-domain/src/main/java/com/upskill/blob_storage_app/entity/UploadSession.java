@@ -0,0 +1,72 @@
+package com.upskill.blob_storage_app.entity;
+
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A resumable upload in progress. The declared size is split into fixed-size chunks, each
+ * staged as one part of {@code storageLocation} under the provider's {@code stagingId}; the
+ * session is removed once the blob is registered or it expires.
+ */
+@Entity
+@Table(name = "upload_sessions",
+        indexes = @Index(name = "idx_upload_sessions_expires_at", columnList = "expires_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class UploadSession {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private String filename;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private long chunkSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StorageProvider storageProvider;
+
+    @Column(nullable = false)
+    private String storageLocation;
+
+    @Column(nullable = false)
+    private String stagingId;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public int getChunkCount() {
+        return (int) Math.max(1, (size + chunkSize - 1) / chunkSize);
+    }
+
+    // Every chunk is chunkSize bytes except the last, which holds the remainder
+    public long chunkLength(int partNumber) {
+        return Math.min(chunkSize, size - (partNumber - 1) * chunkSize);
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = Instant.now();
+    }
+}
@@ -0,0 +1,40 @@
+package com.upskill.blob_storage_app.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A chunk of an {@link UploadSession} that has been staged, with the tag the provider needs
+ * to assemble it. Re-sending a chunk replaces its row.
+ */
+@Entity
+@Table(name = "upload_session_parts",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"session_id", "part_number"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class UploadSessionPart {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID sessionId;
+
+    @Column(nullable = false)
+    private int partNumber;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private String tag;
+
+    @Column(nullable = false)
+    private Instant receivedAt;
+}
@@ -0,0 +1,16 @@
+package com.upskill.blob_storage_app.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ApiKeyRevokedEvent {
+    private final String keyHash;
+    private final LocalDateTime timestamp;
+
+    public ApiKeyRevokedEvent(String keyHash) {
+        this.keyHash = keyHash;
+        this.timestamp = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,7 @@
+package com.upskill.blob_storage_app.exception;
+
+public class ApiKeyNotFoundException extends BlobStorageException {
+    public ApiKeyNotFoundException(String keyId) {
+        super("API key not found: " + keyId);
+    }
+}
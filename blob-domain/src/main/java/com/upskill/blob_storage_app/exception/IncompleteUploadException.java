@@ -0,0 +1,7 @@
+package com.upskill.blob_storage_app.exception;
+
+public class IncompleteUploadException extends BlobStorageException {
+    public IncompleteUploadException(String sessionId, int missingChunks) {
+        super("Upload session " + sessionId + " is missing " + missingChunks + " chunks");
+    }
+}
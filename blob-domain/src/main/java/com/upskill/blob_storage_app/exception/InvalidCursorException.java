@@ -0,0 +1,7 @@
+package com.upskill.blob_storage_app.exception;
+
+public class InvalidCursorException extends BlobStorageException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid listing cursor: " + cursor);
+    }
+}
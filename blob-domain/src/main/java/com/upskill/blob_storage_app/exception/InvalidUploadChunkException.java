@@ -0,0 +1,7 @@
+package com.upskill.blob_storage_app.exception;
+
+public class InvalidUploadChunkException extends BlobStorageException {
+    public InvalidUploadChunkException(String message) {
+        super(message);
+    }
+}
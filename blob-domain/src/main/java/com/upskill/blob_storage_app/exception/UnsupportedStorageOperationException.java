@@ -0,0 +1,9 @@
+package com.upskill.blob_storage_app.exception;
+
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+
+public class UnsupportedStorageOperationException extends BlobStorageException {
+    public UnsupportedStorageOperationException(String operation, StorageProvider provider) {
+        super(operation + " are not supported for " + provider);
+    }
+}
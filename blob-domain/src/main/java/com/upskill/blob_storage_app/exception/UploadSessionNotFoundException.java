@@ -0,0 +1,7 @@
+package com.upskill.blob_storage_app.exception;
+
+public class UploadSessionNotFoundException extends BlobStorageException {
+    public UploadSessionNotFoundException(String sessionId) {
+        super("Upload session not found: " + sessionId);
+    }
+}
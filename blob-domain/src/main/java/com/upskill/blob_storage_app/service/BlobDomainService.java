@@ -10,6 +10,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+// Events published here are synchronous, in-process notifications for cheap bookkeeping such as
+// cache eviction. Anything slow or remote listens through the outbox (BlobEventListener) instead.
 @Service
 @RequiredArgsConstructor
 public class BlobDomainService {
@@ -0,0 +1,6 @@
+package com.upskill.blob_storage_app.valueobject;
+
+public enum BlobEventType {
+    CREATED,
+    DELETED
+}
@@ -0,0 +1,21 @@
+package com.upskill.blob_storage_app.valueobject;
+
+/**
+ * How a blob's bytes are encoded at rest. The content encoding is the HTTP token under which
+ * the stored bytes can be sent as-is to a client that accepts it.
+ */
+public enum CompressionCodec {
+    NONE(null),
+    GZIP("gzip"),
+    ZSTD("zstd");
+
+    private final String contentEncoding;
+
+    CompressionCodec(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+}
@@ -4,10 +4,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EntityScan(basePackages = "com.upskill.blob_storage_app.entity")
 @EnableJpaRepositories(basePackages = "com.upskill.blob_storage_app.repository")
+@EnableScheduling
 public class BlobStorageApplication {
     public static void main(String[] args) {
         SpringApplication.run(BlobStorageApplication.class, args);
@@ -2,10 +2,15 @@ package com.upskill.blob_storage_app.config;
 
 import com.upskill.blob_storage_app.port.output.BlobStoragePort;
 import com.upskill.blob_storage_app.port.output.BlobStorageStrategyFactory;
+import com.upskill.blob_storage_app.storage.cache.CachingBlobStoragePort;
+import com.upskill.blob_storage_app.storage.cache.TieredBlobContentCache;
+import com.upskill.blob_storage_app.storage.metrics.InstrumentedBlobStoragePort;
 import com.upskill.blob_storage_app.storage.s3.S3StorageAdapter;
 import com.upskill.blob_storage_app.storage.local.LocalStorageAdapter;
 import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
 import java.util.EnumMap;
@@ -17,15 +22,21 @@ import jakarta.annotation.PostConstruct;
 public class BlobStorageStrategyFactoryImpl implements BlobStorageStrategyFactory {
     private final S3StorageAdapter s3StorageAdapter;
     private final LocalStorageAdapter localStorageAdapter;
+    // Present only when storage.cache.enabled=true
+    private final ObjectProvider<TieredBlobContentCache> contentCache;
+    private final MeterRegistry meterRegistry;
     // Add more adapters as needed
 
     private final Map<StorageProvider, BlobStoragePort> strategies = new EnumMap<>(StorageProvider.class);
 
     @PostConstruct
     public void init() {
-        strategies.put(StorageProvider.S3, s3StorageAdapter);
+        TieredBlobContentCache cache = contentCache.getIfAvailable();
+        strategies.put(StorageProvider.S3, cache != null ? new CachingBlobStoragePort(s3StorageAdapter, cache) : s3StorageAdapter);
         strategies.put(StorageProvider.LOCAL, localStorageAdapter);
         // Add more as needed
+        // Outermost, so the timings are what callers see, cache hits included
+        strategies.replaceAll((provider, port) -> new InstrumentedBlobStoragePort(port, meterRegistry, provider));
     }
 
     @Override
@@ -0,0 +1,30 @@
+package com.upskill.blob_storage_app.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ExecutorConfig {
+
+    // Bounds how many batch-upload writes run against the storage backends at once
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService blobBatchExecutor(@Value("${storage.batch.threads:32}") int threads,
+                                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return boundedExecutor("blob-batch-", threads, virtualThreads);
+    }
+
+    // With virtual threads there is nothing to pool, so the configured size becomes a limit on
+    // concurrently running tasks instead of a thread count
+    static ExecutorService boundedExecutor(String namePrefix, int concurrency, boolean virtualThreads) {
+        if (!virtualThreads) {
+            return Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory(namePrefix));
+        }
+        ExecutorService threadPerTask = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix, 0).factory());
+        return new ConcurrencyLimitedExecutorService(threadPerTask, concurrency);
+    }
+}
@@ -0,0 +1,17 @@
+package com.upskill.blob_storage_app.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // Times the use cases annotated with @Timed; storage calls are metered by
+    // InstrumentedBlobStoragePort and repository queries by Spring Boot itself
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
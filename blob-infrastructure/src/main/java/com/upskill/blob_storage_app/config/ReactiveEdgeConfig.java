@@ -0,0 +1,80 @@
+package com.upskill.blob_storage_app.config;
+
+import com.upskill.blob_storage_app.controller.ReactiveBlobHandler;
+import com.upskill.blob_storage_app.port.input.BlobUseCase;
+import com.upskill.blob_storage_app.port.output.ReactiveBlobStoragePort;
+import com.upskill.blob_storage_app.port.output.ReactiveBlobStorageStrategyFactory;
+import com.upskill.blob_storage_app.security.ApiKeyAuthenticationCache;
+import com.upskill.blob_storage_app.storage.local.LocalReactiveStorageAdapter;
+import com.upskill.blob_storage_app.storage.s3.S3ReactiveStorageAdapter;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Reactive edge: WebFlux functional endpoints on their own Reactor Netty server next to the
+ * servlet API, sharing this context's services. Off unless {@code edge.reactive.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "edge.reactive.enabled", havingValue = "true")
+public class ReactiveEdgeConfig {
+
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient(
+            @Value("${aws.access-key-id}") String accessKeyId,
+            @Value("${aws.secret-access-key}") String secretAccessKey,
+            @Value("${aws.region}") String region,
+            @Value("${edge.reactive.s3.max-concurrency:500}") int maxConcurrency
+    ) {
+        return S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(
+                                AwsBasicCredentials.create(accessKeyId, secretAccessKey)
+                        )
+                )
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(maxConcurrency))
+                .build();
+    }
+
+    @Bean
+    public ReactiveBlobStorageStrategyFactory reactiveBlobStorageStrategyFactory(
+            S3AsyncClient s3AsyncClient,
+            @Value("${aws.s3.bucket-name}") String bucketName,
+            @Value("${storage.local.base-path}") String localBasePath
+    ) {
+        Map<StorageProvider, ReactiveBlobStoragePort> strategies = new EnumMap<>(StorageProvider.class);
+        strategies.put(StorageProvider.S3, new S3ReactiveStorageAdapter(s3AsyncClient, bucketName));
+        strategies.put(StorageProvider.LOCAL, new LocalReactiveStorageAdapter(localBasePath));
+        return provider -> {
+            ReactiveBlobStoragePort port = strategies.get(provider);
+            if (port == null) throw new IllegalArgumentException("No reactive adapter for provider: " + provider);
+            return port;
+        };
+    }
+
+    @Bean
+    public ReactiveEdgeServer reactiveEdgeServer(
+            BlobUseCase blobUseCase,
+            ApiKeyAuthenticationCache authenticationCache,
+            ReactiveBlobStorageStrategyFactory reactiveBlobStorageStrategyFactory,
+            @Value("${edge.reactive.host:0.0.0.0}") String host,
+            @Value("${edge.reactive.port:8081}") int port,
+            @Value("${edge.reactive.max-upload-size:5GB}") DataSize maxUploadSize
+    ) {
+        ReactiveBlobHandler handler = new ReactiveBlobHandler(blobUseCase, authenticationCache,
+                reactiveBlobStorageStrategyFactory, maxUploadSize.toBytes());
+        return new ReactiveEdgeServer(handler.routes(), host, port);
+    }
+}
@@ -0,0 +1,60 @@
+package com.upskill.blob_storage_app.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Runs the reactive routes on a Reactor Netty server whose lifetime follows the application
+ * context. Connections are served by Netty's event loops (one per core), not by a thread each.
+ */
+public class ReactiveEdgeServer implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveEdgeServer.class);
+
+    private final RouterFunction<ServerResponse> routes;
+    private final String host;
+    private final int port;
+    private volatile DisposableServer server;
+
+    public ReactiveEdgeServer(RouterFunction<ServerResponse> routes, String host, int port) {
+        this.routes = routes;
+        this.host = host;
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        ReactorHttpHandlerAdapter adapter = new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(routes));
+        server = HttpServer.create()
+                .host(host)
+                .port(port)
+                .handle(adapter)
+                .bindNow();
+        log.info("Reactive edge listening on {}:{}", host, server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer running = server;
+        if (running != null) {
+            running.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    public int getPort() {
+        DisposableServer running = server;
+        return running != null ? running.port() : port;
+    }
+}
@@ -9,6 +9,8 @@ import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.util.concurrent.ExecutorService;
+
 @Configuration
 public class S3Config {
 
@@ -43,4 +45,10 @@ public class S3Config {
                 )
                 .build();
     }
-} 
\ No newline at end of file
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService s3TransferExecutor(@Value("${aws.s3.transfer.threads:16}") int threads,
+                                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return ExecutorConfig.boundedExecutor("s3-transfer-", threads, virtualThreads);
+    }
+}
@@ -0,0 +1,41 @@
+package com.upskill.blob_storage_app.controller;
+
+import java.util.List;
+
+/**
+ * Reads {@code Accept-Encoding} the way RFC 9110 asks: a named coding wins over the wildcard,
+ * and a quality of zero refuses it.
+ */
+final class AcceptEncoding {
+
+    private AcceptEncoding() {
+    }
+
+    static boolean allows(List<String> headers, String encoding) {
+        boolean wildcard = false;
+        for (String header : headers) {
+            for (String element : header.split(",")) {
+                String[] parts = element.trim().split(";");
+                String coding = parts[0].trim();
+                boolean refused = false;
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].trim();
+                    if (parameter.startsWith("q=")) {
+                        try {
+                            refused = Double.parseDouble(parameter.substring(2)) <= 0;
+                        } catch (NumberFormatException e) {
+                            refused = true;
+                        }
+                    }
+                }
+                if (coding.equalsIgnoreCase(encoding)) {
+                    return !refused;
+                }
+                if (coding.equals("*")) {
+                    wildcard = !refused;
+                }
+            }
+        }
+        return wildcard;
+    }
+}
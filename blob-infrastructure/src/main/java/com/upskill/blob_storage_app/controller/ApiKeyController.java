@@ -0,0 +1,33 @@
+package com.upskill.blob_storage_app.controller;
+
+import com.upskill.blob_storage_app.port.input.ApiKeyUseCase;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/api-keys")
+@RequiredArgsConstructor
+public class ApiKeyController {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiKeyController.class);
+
+    private final ApiKeyUseCase apiKeyUseCase;
+
+    @DeleteMapping("/{keyId}")
+    public ResponseEntity<Void> revokeApiKey(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable UUID keyId) {
+        log.info("Revoking API key {} for user {}", keyId, userId);
+        apiKeyUseCase.revokeApiKey(userId, keyId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,178 @@
+package com.upskill.blob_storage_app.controller;
+
+import com.upskill.blob_storage_app.dto.BlobDownload;
+import com.upskill.blob_storage_app.port.output.BlobContent;
+import com.upskill.blob_storage_app.port.output.FileBlobContent;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes blob content straight to the servlet response, honouring {@code Range} and
+ * {@code If-Range}. Responses carry an {@code ETag} and {@code Last-Modified}, and a client
+ * whose {@code If-None-Match} or {@code If-Modified-Since} still matches gets a bodyless 304.
+ * Compressed blobs go out in their stored encoding to clients whose {@code Accept-Encoding}
+ * allows it and are decoded for everyone else. File-backed content is handed to Tomcat's
+ * sendfile support when the connector offers it, so the bytes never enter the JVM, unless the
+ * file may be evicted before Tomcat gets to open it; everything else is streamed through a fixed-size buffer.
+ */
+@Component
+public class BlobContentWriter {
+    private static final Logger log = LoggerFactory.getLogger(BlobContentWriter.class);
+
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+    // Same cut-off as Tomcat's DefaultServlet: below it a plain write is cheaper than sendfile
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    public void write(BlobDownload download, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long size = download.getSize();
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        boolean sendEncoded = false;
+        if (download.isCompressed()) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            // Ranges are served from the decoded content, so only whole-blob requests get the stored bytes
+            sendEncoded = rangeHeader == null && AcceptEncoding.allows(
+                    Collections.list(request.getHeaders(HttpHeaders.ACCEPT_ENCODING)), download.getCompressionCodec().getContentEncoding());
+        }
+        String eTag = download.getETag(sendEncoded);
+        // Sets ETag and Last-Modified, and the 304 status when the client's copy is current
+        if (new ServletWebRequest(request, response).checkNotModified(eTag, download.getLastModified().toEpochMilli())) {
+            log.debug("Blob {} not modified for {}", download.getBlobId(), eTag);
+            return;
+        }
+        if (sendEncoded) {
+            response.setContentType(download.getContentType());
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, download.getCompressionCodec().getContentEncoding());
+            writeContent(download.openEncoded(), request, response);
+            return;
+        }
+        if (rangeHeader == null || !ifRangeMatches(download, eTag, request)) {
+            response.setContentType(download.getContentType());
+            writeContent(download.open(), request, response);
+            return;
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = satisfiable(HttpRange.parseRanges(rangeHeader), size);
+        } catch (IllegalArgumentException e) {
+            log.debug("Unsatisfiable range {} for blob {}: {}", rangeHeader, download.getBlobId(), e.getMessage());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (ranges.size() == 1) {
+            HttpRange range = ranges.get(0);
+            long start = range.getRangeStart(size);
+            long end = range.getRangeEnd(size);
+            response.setContentType(download.getContentType());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(start, end, size));
+            writeContent(download.open(start, end - start + 1), request, response);
+        } else {
+            writeMultipart(download, ranges, response);
+        }
+    }
+
+    private void writeContent(BlobContent content, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        try (content) {
+            long length = content.getContentLength();
+            if (length >= 0) {
+                response.setContentLengthLong(length);
+            }
+            if (content instanceof FileBlobContent file && !file.isEvictable() && useSendfile(request, length)) {
+                log.debug("Serving {} via sendfile", file.getPath());
+                request.setAttribute(SENDFILE_FILENAME_ATTR, file.getPath().toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START_ATTR, file.getOffset());
+                request.setAttribute(SENDFILE_END_ATTR, file.getOffset() + length);
+                return;
+            }
+            content.transferTo(response.getOutputStream());
+        }
+    }
+
+    private void writeMultipart(BlobDownload download, List<HttpRange> ranges, HttpServletResponse response) throws IOException {
+        long size = download.getSize();
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        ServletOutputStream out = response.getOutputStream();
+        for (HttpRange range : ranges) {
+            long start = range.getRangeStart(size);
+            long end = range.getRangeEnd(size);
+            String partHeader = "\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + download.getContentType() + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(start, end, size) + "\r\n\r\n";
+            out.write(partHeader.getBytes(StandardCharsets.US_ASCII));
+            try (BlobContent content = download.open(start, end - start + 1)) {
+                content.transferTo(out);
+            }
+        }
+        out.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // Drops ranges that start past the end and, like Spring's resource handling, rejects range
+    // sets that add up to more than the blob itself so overlapping ranges can't amplify a download.
+    private List<HttpRange> satisfiable(List<HttpRange> requested, long size) {
+        List<HttpRange> ranges = requested.stream()
+                .filter(range -> range.getRangeStart(size) < size)
+                .toList();
+        if (ranges.isEmpty()) {
+            throw new IllegalArgumentException("No satisfiable range");
+        }
+        long total = 0;
+        for (HttpRange range : ranges) {
+            total += range.getRangeEnd(size) - range.getRangeStart(size) + 1;
+        }
+        if (ranges.size() > 1 && total > size) {
+            throw new IllegalArgumentException("Requested ranges cover " + total + " bytes of a " + size + " byte blob");
+        }
+        return ranges;
+    }
+
+    // If-Range only applies the range when the client's validator still matches: entity tags
+    // by strong comparison, so a weak one never does, and dates to the second.
+    private boolean ifRangeMatches(BlobDownload download, String eTag, HttpServletRequest request) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("W/")) {
+            return false;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(eTag);
+        }
+        try {
+            long since = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return since / 1000 == download.getLastModified().getEpochSecond();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private boolean useSendfile(HttpServletRequest request, long length) {
+        return length >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR));
+    }
+
+    private String contentRange(long start, long end, long size) {
+        return "bytes " + start + "-" + end + "/" + size;
+    }
+}
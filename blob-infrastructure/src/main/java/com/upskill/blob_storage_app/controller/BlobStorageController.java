@@ -1,14 +1,27 @@
 package com.upskill.blob_storage_app.controller;
 
+import com.upskill.blob_storage_app.dto.BatchUploadResult;
+import com.upskill.blob_storage_app.dto.BlobDownload;
+import com.upskill.blob_storage_app.dto.BlobPage;
+import com.upskill.blob_storage_app.dto.BlobUploadItem;
+import com.upskill.blob_storage_app.dto.BulkDeleteResult;
+import com.upskill.blob_storage_app.dto.PresignedTransfer;
+import com.upskill.blob_storage_app.port.input.BlobBatchUseCase;
 import com.upskill.blob_storage_app.port.input.BlobUseCase;
+import com.upskill.blob_storage_app.query.ListBlobsQuery;
 import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,57 +31,115 @@ import java.util.UUID;
 public class BlobStorageController {
 
     private static final Logger log = LoggerFactory.getLogger(BlobStorageController.class);
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final BlobUseCase blobUseCase;
+    private final BlobBatchUseCase blobBatchUseCase;
+    private final BlobContentWriter blobContentWriter;
 
     @PostMapping
     public ResponseEntity<String> uploadBlob(
-            @RequestHeader("X-API-Key") String apiKey,
+            @AuthenticationPrincipal UUID userId,
             @RequestHeader("X-Storage-Provider") String providerStr,
             @RequestParam("file") MultipartFile file) throws Exception {
-        // TODO: Validate API key and get userId
-        UUID userId = UUID.randomUUID(); // Temporary
         StorageProvider provider = StorageProvider.valueOf(providerStr.toUpperCase());
         log.info("Uploading blob for user {} with provider {}", userId, provider);
-        String blobId = blobUseCase.uploadBlob(userId, file.getBytes(), file.getOriginalFilename(), provider);
+        String blobId;
+        try (InputStream content = file.getInputStream()) {
+            blobId = blobUseCase.uploadBlob(userId, content, file.getSize(), file.getOriginalFilename(), provider);
+        }
         log.info("Blob uploaded: {}", blobId);
         return ResponseEntity.ok(blobId);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchUploadResult>> uploadBlobs(
+            @AuthenticationPrincipal UUID userId,
+            @RequestHeader("X-Storage-Provider") String providerStr,
+            @RequestParam("files") List<MultipartFile> files) {
+        StorageProvider provider = StorageProvider.valueOf(providerStr.toUpperCase());
+        log.info("Batch uploading {} blobs for user {} with provider {}", files.size(), userId, provider);
+        List<BlobUploadItem> items = files.stream()
+                .map(file -> BlobUploadItem.builder()
+                        .filename(file.getOriginalFilename())
+                        .contentLength(file.getSize())
+                        .content(file)
+                        .build())
+                .toList();
+        return ResponseEntity.ok(blobBatchUseCase.uploadBlobs(userId, items, provider));
+    }
+
     @GetMapping("/{blobId}")
-    public ResponseEntity<byte[]> downloadBlob(
-            @RequestHeader("X-API-Key") String apiKey,
+    public void downloadBlob(
+            @AuthenticationPrincipal UUID userId,
             @RequestHeader("X-Storage-Provider") String providerStr,
-            @PathVariable String blobId) {
-        // TODO: Validate API key and get userId
-        UUID userId = UUID.randomUUID(); // Temporary
+            @PathVariable String blobId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
         StorageProvider provider = StorageProvider.valueOf(providerStr.toUpperCase());
         log.info("Downloading blob {} for user {} with provider {}", blobId, userId, provider);
-        byte[] content = blobUseCase.downloadBlob(userId, blobId, provider);
-        return ResponseEntity.ok(content);
+        BlobDownload download = blobUseCase.downloadBlob(userId, blobId, provider);
+        blobContentWriter.write(download, request, response);
+    }
+
+    // The URL is a bearer credential, so it is only issued to the user the API key authenticated as
+    @GetMapping("/{blobId}/url")
+    public ResponseEntity<PresignedTransfer> presignDownload(
+            @AuthenticationPrincipal UUID userId,
+            @RequestHeader("X-Storage-Provider") String providerStr,
+            @PathVariable String blobId) {
+        StorageProvider provider = StorageProvider.valueOf(providerStr.toUpperCase());
+        log.info("Presigning download of blob {} for user {} with provider {}", blobId, userId, provider);
+        return ResponseEntity.ok(blobUseCase.presignDownload(userId, blobId, provider));
     }
 
     @DeleteMapping("/{blobId}")
     public ResponseEntity<Void> deleteBlob(
-            @RequestHeader("X-API-Key") String apiKey,
+            @AuthenticationPrincipal UUID userId,
             @RequestHeader("X-Storage-Provider") String providerStr,
             @PathVariable String blobId) {
-        // TODO: Validate API key and get userId
-        UUID userId = UUID.randomUUID(); // Temporary
         StorageProvider provider = StorageProvider.valueOf(providerStr.toUpperCase());
         log.info("Deleting blob {} for user {} with provider {}", blobId, userId, provider);
         blobUseCase.deleteBlob(userId, blobId, provider);
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteResult> deleteBlobs(
+            @AuthenticationPrincipal UUID userId,
+            @RequestBody BulkDeleteRequest request) {
+        boolean byIds = request.getBlobIds() != null && !request.getBlobIds().isEmpty();
+        boolean byPrefix = request.getFilenamePrefix() != null && !request.getFilenamePrefix().isEmpty();
+        if (byIds == byPrefix) {
+            return ResponseEntity.badRequest().build();
+        }
+        log.info("Bulk deleting blobs for user {}", userId);
+        BulkDeleteResult result = byIds
+                ? blobUseCase.deleteBlobs(userId, request.getBlobIds())
+                : blobUseCase.deleteBlobsByFilenamePrefix(userId, request.getFilenamePrefix());
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping
     public ResponseEntity<List<String>> listBlobs(
-            @RequestHeader("X-API-Key") String apiKey,
-            @RequestHeader("X-Storage-Provider") String providerStr) {
-        // TODO: Validate API key and get userId
-        UUID userId = UUID.randomUUID(); // Temporary
+            @AuthenticationPrincipal UUID userId,
+            @RequestHeader("X-Storage-Provider") String providerStr,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
         StorageProvider provider = StorageProvider.valueOf(providerStr.toUpperCase());
         log.info("Listing blobs for user {} with provider {}", userId, provider);
-        List<String> blobs = blobUseCase.listBlobs(userId, provider);
-        return ResponseEntity.ok(blobs);
+        BlobPage page = blobUseCase.listBlobs(ListBlobsQuery.builder()
+                .userId(userId)
+                .provider(provider)
+                .cursor(cursor)
+                .limit(Math.max(1, Math.min(limit, MAX_PAGE_SIZE)))
+                .build());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getBlobIds());
     }
-} 
\ No newline at end of file
+}
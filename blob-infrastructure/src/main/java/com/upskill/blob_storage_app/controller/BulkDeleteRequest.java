@@ -0,0 +1,16 @@
+package com.upskill.blob_storage_app.controller;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// Exactly one of blobIds or filenamePrefix
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkDeleteRequest {
+    private List<String> blobIds;
+    private String filenamePrefix;
+}
@@ -0,0 +1,15 @@
+package com.upskill.blob_storage_app.controller;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// The ETag storage returned for each chunk sent to a presigned URL, in chunk order
+@Getter
+@Setter
+@NoArgsConstructor
+public class CompleteUploadRequest {
+    private List<String> partTags;
+}
@@ -1,14 +1,22 @@
 package com.upskill.blob_storage_app.controller;
 
+import com.upskill.blob_storage_app.exception.ApiKeyNotFoundException;
+import com.upskill.blob_storage_app.exception.IncompleteUploadException;
+import com.upskill.blob_storage_app.exception.InvalidCursorException;
+import com.upskill.blob_storage_app.exception.InvalidUploadChunkException;
+import com.upskill.blob_storage_app.exception.UnsupportedStorageOperationException;
+import com.upskill.blob_storage_app.exception.UploadSessionNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartException;
 import org.springframework.dao.DataAccessException;
 import org.springframework.security.access.AccessDeniedException;
@@ -31,9 +39,10 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
     }
 
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
+    // The base class already maps this one; a second @ExceptionHandler for it fails startup as ambiguous
+    @Override
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpHeaders headers,
+                                                                  HttpStatusCode status, WebRequest request) {
         log.warn("Validation error: {}", ex.getMessage());
         Map<String, Object> body = new HashMap<>();
         body.put("error", "Validation Error");
@@ -41,9 +50,63 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.badRequest().body(body);
     }
 
-    @ExceptionHandler(MaxUploadSizeExceededException.class)
-    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
-    public ResponseEntity<Map<String, Object>> handleMaxSizeException(MaxUploadSizeExceededException ex) {
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidCursorException(InvalidCursorException ex) {
+        log.warn("Invalid cursor: {}", ex.getMessage());
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "Invalid Cursor");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.badRequest().body(body);
+    }
+
+    @ExceptionHandler(UploadSessionNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleUploadSessionNotFoundException(UploadSessionNotFoundException ex) {
+        log.warn("Upload session not found: {}", ex.getMessage());
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "Upload Session Not Found");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+    }
+
+    @ExceptionHandler(ApiKeyNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleApiKeyNotFoundException(ApiKeyNotFoundException ex) {
+        log.warn("API key not found: {}", ex.getMessage());
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "API Key Not Found");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+    }
+
+    @ExceptionHandler(InvalidUploadChunkException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidUploadChunkException(InvalidUploadChunkException ex) {
+        log.warn("Invalid upload chunk: {}", ex.getMessage());
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "Invalid Chunk");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.badRequest().body(body);
+    }
+
+    @ExceptionHandler(IncompleteUploadException.class)
+    public ResponseEntity<Map<String, Object>> handleIncompleteUploadException(IncompleteUploadException ex) {
+        log.warn("Incomplete upload: {}", ex.getMessage());
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "Incomplete Upload");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    @ExceptionHandler(UnsupportedStorageOperationException.class)
+    public ResponseEntity<Map<String, Object>> handleUnsupportedStorageOperationException(UnsupportedStorageOperationException ex) {
+        log.warn("Unsupported storage operation: {}", ex.getMessage());
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "Not Implemented");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(body);
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException ex, HttpHeaders headers,
+                                                                          HttpStatusCode status, WebRequest request) {
         log.warn("File upload too large: {}", ex.getMessage());
         Map<String, Object> body = new HashMap<>();
         body.put("error", "File too large");
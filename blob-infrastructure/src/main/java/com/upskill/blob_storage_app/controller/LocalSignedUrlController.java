@@ -0,0 +1,91 @@
+package com.upskill.blob_storage_app.controller;
+
+import com.upskill.blob_storage_app.dto.BlobDownload;
+import com.upskill.blob_storage_app.port.output.StoredObject;
+import com.upskill.blob_storage_app.storage.local.LocalStorageAdapter;
+import com.upskill.blob_storage_app.storage.local.LocalUrlSigner;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Serves the signed URLs local storage issues in place of presigned ones. The signature is the
+ * only credential, so no API key or metadata lookup is involved: downloads go to Tomcat's
+ * sendfile through {@link BlobContentWriter} and parts are written straight into staging.
+ */
+@RestController
+@RequestMapping(LocalUrlSigner.PATH)
+@RequiredArgsConstructor
+public class LocalSignedUrlController {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalSignedUrlController.class);
+
+    private final LocalStorageAdapter localStorage;
+    private final BlobContentWriter blobContentWriter;
+
+    @GetMapping
+    public void download(
+            @RequestParam Map<String, String> params,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Optional<StoredObject> signed = localStorage.verifyDownload(params);
+        if (signed.isEmpty()) {
+            log.warn("Rejected local download with an invalid or expired signature");
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "Invalid or expired signature");
+            return;
+        }
+        StoredObject object = signed.get();
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(object.filename())
+                .build()
+                .toString());
+        blobContentWriter.write(BlobDownload.builder()
+                .blobId(object.location())
+                .filename(object.filename())
+                .contentType(object.contentType())
+                .size(object.size())
+                .lastModified(object.lastModified())
+                .compressionCodec(object.compressionCodec())
+                .storage(localStorage)
+                .storageLocation(object.location())
+                .storageProvider(StorageProvider.LOCAL)
+                .build(), request, response);
+    }
+
+    @PutMapping
+    public ResponseEntity<Void> uploadPart(
+            @RequestParam Map<String, String> params,
+            HttpServletRequest request) throws IOException {
+        Optional<LocalStorageAdapter.SignedPart> signed = localStorage.verifyPart(params);
+        if (signed.isEmpty()) {
+            log.warn("Rejected local part upload with an invalid or expired signature");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        LocalStorageAdapter.SignedPart part = signed.get();
+        if (request.getContentLengthLong() != part.contentLength()) {
+            return ResponseEntity.badRequest().build();
+        }
+        String tag;
+        try (InputStream content = request.getInputStream()) {
+            tag = localStorage.uploadPart(part.upload(), part.partNumber(), content, part.contentLength(), StorageProvider.LOCAL);
+        }
+        return ResponseEntity.ok().eTag(tag).build();
+    }
+}
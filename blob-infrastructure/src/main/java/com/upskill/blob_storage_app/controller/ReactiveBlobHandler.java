@@ -0,0 +1,237 @@
+package com.upskill.blob_storage_app.controller;
+
+import com.upskill.blob_storage_app.dto.BlobDownload;
+import com.upskill.blob_storage_app.exception.BlobNotFoundException;
+import com.upskill.blob_storage_app.exception.BlobStorageException;
+import com.upskill.blob_storage_app.exception.UnauthorizedBlobAccessException;
+import com.upskill.blob_storage_app.exception.UserNotFoundException;
+import com.upskill.blob_storage_app.io.ContentHash;
+import com.upskill.blob_storage_app.port.input.BlobUseCase;
+import com.upskill.blob_storage_app.port.output.ReactiveBlobStorageStrategyFactory;
+import com.upskill.blob_storage_app.security.ApiKeyAuthenticationCache;
+import com.upskill.blob_storage_app.service.BlobUploader;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Non-blocking upload and download endpoints served from the reactive edge. Content streams
+ * between the connection and a {@link com.upskill.blob_storage_app.port.output.ReactiveBlobStoragePort}
+ * with backpressure, so a slow client only ever holds a few buffers and no thread. Metadata and
+ * authentication still go through the blocking use cases, on the bounded elastic scheduler.
+ *
+ * <p>Uploads are the raw request body with a {@code filename} query parameter and a required
+ * {@code Content-Length}; they are stored as-is and take part in neither content-addressed
+ * dedup nor compression. Compressed blobs are sent in their stored encoding when the client
+ * accepts it and decoded otherwise.
+ */
+public class ReactiveBlobHandler {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveBlobHandler.class);
+    private static final int DECODE_BUFFER_SIZE = 64 * 1024;
+
+    private final BlobUseCase blobUseCase;
+    private final ApiKeyAuthenticationCache authenticationCache;
+    private final ReactiveBlobStorageStrategyFactory storageFactory;
+    private final long maxUploadSize;
+
+    public ReactiveBlobHandler(BlobUseCase blobUseCase, ApiKeyAuthenticationCache authenticationCache,
+                               ReactiveBlobStorageStrategyFactory storageFactory, long maxUploadSize) {
+        this.blobUseCase = blobUseCase;
+        this.authenticationCache = authenticationCache;
+        this.storageFactory = storageFactory;
+        this.maxUploadSize = maxUploadSize;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                // Deferred so header validation errors go through the error mapping below
+                .POST("/api/v1/blobs", request -> Mono.defer(() -> upload(request)))
+                .GET("/api/v1/blobs/{blobId}", request -> Mono.defer(() -> download(request)))
+                .onError(Throwable.class, (e, request) -> error(e))
+                .build();
+    }
+
+    Mono<ServerResponse> upload(ServerRequest request) {
+        String filename = request.queryParam("filename").orElse(null);
+        long contentLength = request.headers().contentLength().orElse(-1);
+        if (filename == null || filename.isBlank()) {
+            return error(HttpStatus.BAD_REQUEST, "Missing filename query parameter");
+        }
+        if (contentLength < 0) {
+            return error(HttpStatus.LENGTH_REQUIRED, "Content-Length is required");
+        }
+        if (contentLength > maxUploadSize) {
+            return error(HttpStatus.PAYLOAD_TOO_LARGE, "Upload of " + contentLength + " bytes exceeds " + maxUploadSize);
+        }
+        StorageProvider provider = provider(request);
+        String contentType = request.headers().contentType()
+                .map(MediaType::toString)
+                .orElse(BlobUploader.DEFAULT_CONTENT_TYPE);
+        return authenticate(request).flatMap(userId -> {
+            log.info("Streaming upload of {} ({} bytes) for user {} with provider {}", filename, contentLength, userId, provider);
+            MessageDigest digest = ContentHash.newDigest();
+            AtomicLong received = new AtomicLong();
+            Flux<DataBuffer> body = request.bodyToFlux(DataBuffer.class)
+                    .doOnNext(buffer -> {
+                        try (DataBuffer.ByteBufferIterator chunks = buffer.readableByteBuffers()) {
+                            while (chunks.hasNext()) {
+                                ByteBuffer chunk = chunks.next();
+                                received.addAndGet(chunk.remaining());
+                                digest.update(chunk);
+                            }
+                        }
+                    });
+            return storageFactory.getStrategy(provider)
+                    .upload(body, contentLength, filename, contentType, provider)
+                    .flatMap(location -> {
+                        if (received.get() != contentLength) {
+                            return discard(provider, location, new BlobStorageException(
+                                    "Upload ended after " + received.get() + " of " + contentLength + " bytes"));
+                        }
+                        String contentHash = ContentHash.toHex(digest);
+                        return blocking(() -> blobUseCase.registerBlob(userId, filename, contentType, contentLength,
+                                        provider, location, contentHash))
+                                .onErrorResume(e -> discard(provider, location, e));
+                    });
+        }).flatMap(blobId -> ServerResponse.ok().contentType(MediaType.TEXT_PLAIN).bodyValue(blobId));
+    }
+
+    Mono<ServerResponse> download(ServerRequest request) {
+        String blobId = request.pathVariable("blobId");
+        StorageProvider provider = provider(request);
+        return authenticate(request)
+                .flatMap(userId -> blocking(() -> blobUseCase.downloadBlob(userId, blobId, provider)))
+                .flatMap(download -> {
+                    boolean sendEncoded = download.isCompressed() && AcceptEncoding.allows(
+                            request.headers().header(HttpHeaders.ACCEPT_ENCODING), download.getCompressionCodec().getContentEncoding());
+                    String eTag = download.getETag(sendEncoded);
+                    // Empty unless the client's copy is current, in which case it is a bodyless 304
+                    return request.checkNotModified(download.getLastModified(), eTag)
+                            .switchIfEmpty(Mono.defer(() -> body(download, eTag, sendEncoded)));
+                });
+    }
+
+    private Mono<ServerResponse> body(BlobDownload download, String eTag, boolean sendEncoded) {
+        ServerResponse.BodyBuilder response = ServerResponse.ok()
+                .contentType(MediaType.parseMediaType(download.getContentType()))
+                .eTag(eTag)
+                .lastModified(download.getLastModified().atZone(ZoneOffset.UTC))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(download.getFilename())
+                        .build()
+                        .toString());
+        if (!download.isCompressed()) {
+            return response.contentLength(download.getSize())
+                    .body(BodyInserters.fromDataBuffers(download.stream(storageFactory)));
+        }
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (sendEncoded) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, download.getCompressionCodec().getContentEncoding())
+                    .contentLength(download.getStoredSize())
+                    .body(BodyInserters.fromDataBuffers(download.stream(storageFactory)));
+        }
+        return response.contentLength(download.getSize())
+                .body(BodyInserters.fromDataBuffers(decoded(download)));
+    }
+
+    // Decoding is blocking stream work, so it stays on the bounded elastic scheduler
+    private static Flux<DataBuffer> decoded(BlobDownload download) {
+        return Flux.using(download::open,
+                        content -> DataBufferUtils.readInputStream(content::getInputStream, DefaultDataBufferFactory.sharedInstance, DECODE_BUFFER_SIZE),
+                        content -> {
+                            try {
+                                content.close();
+                            } catch (IOException e) {
+                                log.warn("Failed to close decoded content of blob {}", download.getBlobId(), e);
+                            }
+                        })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // The stored object is handed to the garbage collector; the original error is what the client sees
+    private <T> Mono<T> discard(StorageProvider provider, String location, Throwable cause) {
+        log.warn("Discarding streamed upload at {} on {}", location, provider, cause);
+        return blocking(() -> {
+            blobUseCase.discardContent(provider, location);
+            return location;
+        }).onErrorResume(e -> {
+            log.error("Failed to tombstone {} on {}; left for reconciliation", location, provider, e);
+            return Mono.empty();
+        }).then(Mono.error(cause));
+    }
+
+    private Mono<UUID> authenticate(ServerRequest request) {
+        String apiKey = request.headers().firstHeader("X-API-Key");
+        if (apiKey == null) {
+            return Mono.error(new ApiKeyRejectedException());
+        }
+        return blocking(() -> authenticationCache.authenticate(apiKey))
+                .flatMap(key -> key.map(cached -> Mono.just(cached.getUserId()))
+                        .orElseGet(() -> Mono.error(new ApiKeyRejectedException())));
+    }
+
+    private static StorageProvider provider(ServerRequest request) {
+        String provider = request.headers().firstHeader("X-Storage-Provider");
+        if (provider == null) {
+            throw new IllegalArgumentException("Missing X-Storage-Provider header");
+        }
+        return StorageProvider.valueOf(provider.toUpperCase());
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<ServerResponse> error(Throwable e) {
+        if (e instanceof ApiKeyRejectedException) {
+            return error(HttpStatus.UNAUTHORIZED, "Invalid or missing API key");
+        }
+        if (e instanceof BlobNotFoundException || e instanceof UserNotFoundException) {
+            return error(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+        if (e instanceof UnauthorizedBlobAccessException) {
+            return error(HttpStatus.FORBIDDEN, e.getMessage());
+        }
+        if (e instanceof IllegalArgumentException) {
+            return error(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        log.error("Unhandled exception on reactive edge: ", e);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, String message) {
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("error", status.getReasonPhrase(), "message", String.valueOf(message)));
+    }
+
+    private static class ApiKeyRejectedException extends RuntimeException {
+        ApiKeyRejectedException() {
+            super(null, null, false, false);
+        }
+    }
+}
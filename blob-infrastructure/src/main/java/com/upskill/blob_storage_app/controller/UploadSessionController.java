@@ -0,0 +1,96 @@
+package com.upskill.blob_storage_app.controller;
+
+import com.upskill.blob_storage_app.dto.PresignedTransfer;
+import com.upskill.blob_storage_app.dto.UploadSessionStatus;
+import com.upskill.blob_storage_app.port.input.UploadSessionUseCase;
+import com.upskill.blob_storage_app.service.BlobUploader;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resumable uploads: open a session with the total size, PUT the body of each chunk at its
+ * offset, check which ranges arrived after a failure, then complete. Chunks can instead go
+ * straight to storage through presigned URLs, in which case completion lists the ETags storage
+ * returned. Sessions outlive single requests, so the user is the one the API key authenticated as.
+ */
+@RestController
+@RequestMapping("/api/v1/blobs/uploads")
+@RequiredArgsConstructor
+public class UploadSessionController {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadSessionController.class);
+
+    private final UploadSessionUseCase uploadSessionUseCase;
+
+    @PostMapping
+    public ResponseEntity<UploadSessionStatus> createSession(
+            @AuthenticationPrincipal UUID userId,
+            @RequestHeader("X-Storage-Provider") String providerStr,
+            @RequestParam String filename,
+            @RequestParam long size,
+            @RequestParam(defaultValue = BlobUploader.DEFAULT_CONTENT_TYPE) String contentType) {
+        StorageProvider provider = StorageProvider.valueOf(providerStr.toUpperCase());
+        log.info("Opening upload session for {} ({} bytes) for user {} with provider {}", filename, size, userId, provider);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(uploadSessionUseCase.createSession(userId, filename, contentType, size, provider));
+    }
+
+    @PutMapping("/{sessionId}")
+    public ResponseEntity<UploadSessionStatus> uploadChunk(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable UUID sessionId,
+            @RequestParam long offset,
+            HttpServletRequest request) throws IOException {
+        try (InputStream content = request.getInputStream()) {
+            return ResponseEntity.ok(uploadSessionUseCase.uploadChunk(userId, sessionId, offset, content,
+                    request.getContentLengthLong()));
+        }
+    }
+
+    @GetMapping("/{sessionId}")
+    public ResponseEntity<UploadSessionStatus> getSession(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable UUID sessionId) {
+        return ResponseEntity.ok(uploadSessionUseCase.getSession(userId, sessionId));
+    }
+
+    @PostMapping("/{sessionId}/presign")
+    public ResponseEntity<List<PresignedTransfer>> presignChunks(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable UUID sessionId,
+            @RequestParam(defaultValue = "0") long offset,
+            @RequestParam(defaultValue = "100") int count) {
+        return ResponseEntity.ok(uploadSessionUseCase.presignChunks(userId, sessionId, offset, count));
+    }
+
+    @PostMapping("/{sessionId}/complete")
+    public ResponseEntity<String> completeSession(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable UUID sessionId,
+            @RequestBody(required = false) CompleteUploadRequest request) {
+        String blobId = uploadSessionUseCase.completeSession(userId, sessionId,
+                request != null ? request.getPartTags() : null);
+        log.info("Upload session {} completed as blob {}", sessionId, blobId);
+        return ResponseEntity.ok(blobId);
+    }
+
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<Void> abortSession(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable UUID sessionId) {
+        uploadSessionUseCase.abortSession(userId, sessionId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.upskill.blob_storage_app.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.upskill.blob_storage_app.entity.ApiKey;
+import com.upskill.blob_storage_app.event.ApiKeyRevokedEvent;
+import com.upskill.blob_storage_app.repository.ApiKeyRepository;
+import com.upskill.blob_storage_app.service.CacheLoading;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded, TTL-based cache of API key lookups keyed by the SHA-256 digest of the raw key.
+ * Entries never outlive the key's {@code expiresAt}, unknown keys are cached briefly so
+ * guessing can't hammer the database, and a revocation through {@code ApiKeyService} evicts its key
+ * as soon as it commits. Lookups load on the
+ * caller's thread through {@link CacheLoading}, so no cache monitor is held across the database call.
+ */
+@Component
+public class ApiKeyAuthenticationCache {
+    private static final Logger log = LoggerFactory.getLogger(ApiKeyAuthenticationCache.class);
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final AsyncCache<String, Optional<CachedApiKey>> cache;
+
+    public ApiKeyAuthenticationCache(
+            ApiKeyRepository apiKeyRepository,
+            @Value("${security.api-key.cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.api-key.cache.ttl:PT5M}") Duration ttl,
+            @Value("${security.api-key.cache.negative-ttl:PT30S}") Duration negativeTtl) {
+        this.apiKeyRepository = apiKeyRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new KeyExpiry(ttl, negativeTtl))
+                .buildAsync();
+    }
+
+    public static String digest(String rawKey) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(rawKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public Optional<CachedApiKey> authenticate(String rawKey) {
+        return CacheLoading.getOnCallerThread(cache, digest(rawKey), this::load).filter(cached -> cached.isValidAt(Instant.now()));
+    }
+
+    public void invalidate(String keyHash) {
+        cache.synchronous().invalidate(keyHash);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    // After commit, so a request racing the revocation can't re-cache the key as still active
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApiKeyRevoked(ApiKeyRevokedEvent event) {
+        log.info("Evicting revoked API key from authentication cache");
+        invalidate(event.getKeyHash());
+    }
+
+    private Optional<CachedApiKey> load(String keyHash) {
+        return apiKeyRepository.findByKeyHash(keyHash).map(CachedApiKey::of);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedApiKey {
+        private final UUID keyId;
+        private final UUID userId;
+        private final boolean active;
+        private final Instant expiresAt;
+
+        static CachedApiKey of(ApiKey key) {
+            return new CachedApiKey(key.getId(), key.getUser().getId(), key.isActive(), key.getExpiresAt());
+        }
+
+        boolean isValidAt(Instant now) {
+            return active && (expiresAt == null || expiresAt.isAfter(now));
+        }
+    }
+
+    private static class KeyExpiry implements Expiry<String, Optional<CachedApiKey>> {
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        KeyExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String keyHash, Optional<CachedApiKey> value, long currentTime) {
+            if (value.isEmpty()) {
+                return negativeTtlNanos;
+            }
+            Instant expiresAt = value.get().getExpiresAt();
+            if (expiresAt == null) {
+                return ttlNanos;
+            }
+            long untilExpiry = Duration.between(Instant.now(), expiresAt).toNanos();
+            return Math.max(0, Math.min(ttlNanos, untilExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String keyHash, Optional<CachedApiKey> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(keyHash, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String keyHash, Optional<CachedApiKey> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.upskill.blob_storage_app.security;
 
-import com.upskill.blob_storage_app.repository.ApiKeyRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,7 +17,8 @@ import java.util.ArrayList;
 @RequiredArgsConstructor
 public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
 
-    private final ApiKeyRepository apiKeyRepository;
+    private final ApiKeyAuthenticationCache apiKeyAuthenticationCache;
+    private final ApiKeyUsageTracker apiKeyUsageTracker;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -30,18 +30,17 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        apiKeyRepository.findByKeyHash(apiKey)
+        apiKeyAuthenticationCache.authenticate(apiKey)
                 .ifPresent(key -> {
-                    if (key.isActive()) {
-                        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                                key.getUser().getId(),
-                                null,
-                                new ArrayList<>()
-                        );
-                        SecurityContextHolder.getContext().setAuthentication(auth);
-                    }
+                    UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                            key.getUserId(),
+                            null,
+                            new ArrayList<>()
+                    );
+                    SecurityContextHolder.getContext().setAuthentication(auth);
+                    apiKeyUsageTracker.recordUse(key.getKeyId());
                 });
 
         filterChain.doFilter(request, response);
     }
-} 
\ No newline at end of file
+}
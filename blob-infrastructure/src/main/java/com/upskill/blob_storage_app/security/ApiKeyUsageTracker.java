@@ -0,0 +1,69 @@
+package com.upskill.blob_storage_app.security;
+
+import com.upskill.blob_storage_app.repository.ApiKeyRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces {@code lastUsedAt} updates: requests only mark the key as used in memory, and a
+ * scheduled flush writes all keys used since the last flush in batched updates.
+ * {@code lastUsedAt} is therefore accurate to the flush interval.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiKeyUsageTracker {
+    private static final Logger log = LoggerFactory.getLogger(ApiKeyUsageTracker.class);
+    private static final int BATCH_SIZE = 1000;
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final Set<UUID> usedKeys = ConcurrentHashMap.newKeySet();
+
+    public void recordUse(UUID keyId) {
+        usedKeys.add(keyId);
+    }
+
+    @Scheduled(fixedDelayString = "${security.api-key.last-used.flush-interval:PT30S}")
+    @PreDestroy
+    public void flush() {
+        if (usedKeys.isEmpty()) {
+            return;
+        }
+        List<UUID> batch = new ArrayList<>(BATCH_SIZE);
+        Instant usedAt = Instant.now();
+        int flushed = 0;
+        for (UUID keyId : usedKeys) {
+            usedKeys.remove(keyId);
+            batch.add(keyId);
+            if (batch.size() == BATCH_SIZE) {
+                flushed += write(batch, usedAt);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushed += write(batch, usedAt);
+        }
+        log.debug("Flushed lastUsedAt for {} API keys", flushed);
+    }
+
+    private int write(List<UUID> batch, Instant usedAt) {
+        try {
+            apiKeyRepository.updateLastUsedAt(batch, usedAt);
+            return batch.size();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush lastUsedAt for {} API keys; will retry", batch.size(), e);
+            usedKeys.addAll(batch);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.upskill.blob_storage_app.storage.cache;
+
+import com.upskill.blob_storage_app.port.output.BlobContent;
+import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.port.output.FileBlobContent;
+import com.upskill.blob_storage_app.port.output.StagedUpload;
+import com.upskill.blob_storage_app.port.output.StoredObject;
+import com.upskill.blob_storage_app.port.output.StreamBlobContent;
+import com.upskill.blob_storage_app.exception.BlobStorageException;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Serves downloads of a remote provider from a {@link TieredBlobContentCache}. Whole-object
+ * misses are filled on the way through: small objects are buffered into the memory tier, larger
+ * ones are teed to a disk file while streaming to the caller. Ranged misses go straight to the
+ * provider. Deletes and overwrites evict the location before touching the provider.
+ */
+public class CachingBlobStoragePort implements BlobStoragePort {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingBlobStoragePort.class);
+
+    private final BlobStoragePort delegate;
+    private final TieredBlobContentCache cache;
+
+    public CachingBlobStoragePort(BlobStoragePort delegate, TieredBlobContentCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public String upload(InputStream content, long contentLength, String filename, String contentType, StorageProvider provider) {
+        return delegate.upload(content, contentLength, filename, contentType, provider);
+    }
+
+    @Override
+    public void uploadTo(String location, InputStream content, long contentLength, String contentType, StorageProvider provider) {
+        cache.invalidate(key(location, provider));
+        delegate.uploadTo(location, content, contentLength, contentType, provider);
+    }
+
+    @Override
+    public BlobContent download(String location, StorageProvider provider) {
+        String key = key(location, provider);
+        byte[] cached = cache.getFromMemory(key);
+        if (cached != null) {
+            return new StreamBlobContent(new ByteArrayInputStream(cached), cached.length);
+        }
+        BlobContent onDisk = openFromDisk(key, 0, Long.MAX_VALUE);
+        if (onDisk != null) {
+            return onDisk;
+        }
+        BlobContent content = delegate.download(location, provider);
+        long size = content.getContentLength();
+        if (cache.fitsInMemory(size)) {
+            return bufferIntoMemory(key, content);
+        }
+        if (cache.fitsOnDisk(size)) {
+            try {
+                return new TeeBlobContent(content, cache.newDiskFile(), file -> cache.putOnDisk(key, file, size));
+            } catch (IOException e) {
+                log.warn("Could not create cache file for {}; serving uncached", key, e);
+            }
+        }
+        return content;
+    }
+
+    @Override
+    public BlobContent download(String location, long offset, long length, StorageProvider provider) {
+        String key = key(location, provider);
+        byte[] cached = cache.getFromMemory(key);
+        if (cached != null) {
+            int from = (int) Math.min(offset, cached.length);
+            int to = (int) Math.min(cached.length, offset + length);
+            byte[] slice = Arrays.copyOfRange(cached, from, to);
+            return new StreamBlobContent(new ByteArrayInputStream(slice), slice.length);
+        }
+        BlobContent onDisk = openFromDisk(key, offset, length);
+        if (onDisk != null) {
+            return onDisk;
+        }
+        return delegate.download(location, offset, length, provider);
+    }
+
+    @Override
+    public void delete(String location, StorageProvider provider) {
+        cache.invalidate(key(location, provider));
+        delegate.delete(location, provider);
+    }
+
+    @Override
+    public Map<String, String> deleteAll(List<String> locations, StorageProvider provider) {
+        locations.forEach(location -> cache.invalidate(key(location, provider)));
+        return delegate.deleteAll(locations, provider);
+    }
+
+    @Override
+    public Stream<String> streamKeys(String prefix, String delimiter, StorageProvider provider) {
+        return delegate.streamKeys(prefix, delimiter, provider);
+    }
+
+    @Override
+    public StagedUpload beginStaged(String filename, String contentType, StorageProvider provider) {
+        return delegate.beginStaged(filename, contentType, provider);
+    }
+
+    @Override
+    public String uploadPart(StagedUpload upload, int partNumber, InputStream content, long contentLength, StorageProvider provider) {
+        return delegate.uploadPart(upload, partNumber, content, contentLength, provider);
+    }
+
+    @Override
+    public void completeStaged(StagedUpload upload, List<String> partTags, StorageProvider provider) {
+        cache.invalidate(key(upload.location(), provider));
+        delegate.completeStaged(upload, partTags, provider);
+    }
+
+    @Override
+    public void abortStaged(StagedUpload upload, StorageProvider provider) {
+        delegate.abortStaged(upload, provider);
+    }
+
+    @Override
+    public String generatePresignedUrl(String location, StorageProvider provider, long expirationMinutes) {
+        return delegate.generatePresignedUrl(location, provider, expirationMinutes);
+    }
+
+    @Override
+    public String presignDownload(StoredObject object, Duration expiry, StorageProvider provider) {
+        return delegate.presignDownload(object, expiry, provider);
+    }
+
+    @Override
+    public String presignPart(StagedUpload upload, int partNumber, long contentLength, Duration expiry, StorageProvider provider) {
+        return delegate.presignPart(upload, partNumber, contentLength, expiry, provider);
+    }
+
+    private BlobContent openFromDisk(String key, long offset, long length) {
+        Path file = cache.getFromDisk(key);
+        if (file == null) {
+            return null;
+        }
+        try {
+            // Eviction may delete the file at any moment, so it is never handed out by path
+            return FileBlobContent.evictable(file, offset, length);
+        } catch (IOException e) {
+            // Evicted between lookup and open
+            log.debug("Cached file for {} disappeared; falling back to provider", key, e);
+            return null;
+        }
+    }
+
+    private BlobContent bufferIntoMemory(String key, BlobContent content) {
+        try (content) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream((int) content.getContentLength());
+            content.transferTo(buffer);
+            byte[] bytes = buffer.toByteArray();
+            if (bytes.length == content.getContentLength()) {
+                cache.putInMemory(key, bytes);
+            }
+            return new StreamBlobContent(new ByteArrayInputStream(bytes), bytes.length);
+        } catch (IOException e) {
+            throw new BlobStorageException("Failed to read blob content", e);
+        }
+    }
+
+    private static String key(String location, StorageProvider provider) {
+        return provider + ":" + location;
+    }
+}
@@ -0,0 +1,165 @@
+package com.upskill.blob_storage_app.storage.cache;
+
+import com.upskill.blob_storage_app.port.output.BlobContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Streams content to the caller while copying it into a cache file. The file is only admitted
+ * once every byte has been written; a failed or abandoned transfer deletes it. Cache write
+ * failures never fail the caller's transfer.
+ */
+class TeeBlobContent implements BlobContent {
+
+    private static final Logger log = LoggerFactory.getLogger(TeeBlobContent.class);
+
+    private final BlobContent delegate;
+    private final Path file;
+    private final Consumer<Path> admit;
+    private boolean admitted;
+
+    TeeBlobContent(BlobContent delegate, Path file, Consumer<Path> admit) {
+        this.delegate = delegate;
+        this.file = file;
+        this.admit = admit;
+    }
+
+    @Override
+    public long getContentLength() {
+        return delegate.getContentLength();
+    }
+
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+        try (TeeOutputStream tee = new TeeOutputStream(out, Files.newOutputStream(file))) {
+            long transferred = delegate.transferTo(tee);
+            if (tee.finishCopy() && transferred == delegate.getContentLength()) {
+                admit.accept(file);
+                admitted = true;
+            }
+            return transferred;
+        }
+    }
+
+    // Copies into the cache file as the caller reads; admitted once the caller reaches the end
+    @Override
+    public InputStream getInputStream() throws IOException {
+        TeeOutputStream tee = new TeeOutputStream(OutputStream.nullOutputStream(), Files.newOutputStream(file));
+        return new FilterInputStream(delegate.getInputStream()) {
+            private long read;
+
+            @Override
+            public int read() throws IOException {
+                byte[] single = new byte[1];
+                return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int n = super.read(b, off, len);
+                if (n > 0) {
+                    tee.write(b, off, n);
+                    read += n;
+                } else if (n == -1 && tee.finishCopy() && read == delegate.getContentLength() && !admitted) {
+                    admit.accept(file);
+                    admitted = true;
+                }
+                return n;
+            }
+
+            // Skipped bytes never reach the copy, so the file can't be admitted
+            @Override
+            public long skip(long n) throws IOException {
+                tee.abandonCopy();
+                return super.skip(n);
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    tee.close();
+                } finally {
+                    super.close();
+                }
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            delegate.close();
+        } finally {
+            if (!admitted) {
+                TieredBlobContentCache.deleteQuietly(file);
+            }
+        }
+    }
+
+    private static class TeeOutputStream extends OutputStream {
+        private final OutputStream out;
+        private OutputStream copy;
+        private boolean copyFailed;
+
+        TeeOutputStream(OutputStream out, OutputStream copy) {
+            this.out = out;
+            this.copy = copy;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            if (copy != null && !copyFailed) {
+                try {
+                    copy.write(b, off, len);
+                } catch (IOException e) {
+                    log.warn("Writing to blob cache file failed; continuing uncached", e);
+                    copyFailed = true;
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        void abandonCopy() {
+            copyFailed = true;
+        }
+
+        // Closes the cache file and reports whether it holds everything written so far
+        boolean finishCopy() {
+            if (copy != null) {
+                OutputStream toClose = copy;
+                copy = null;
+                try {
+                    toClose.close();
+                } catch (IOException e) {
+                    log.warn("Closing blob cache file failed; continuing uncached", e);
+                    copyFailed = true;
+                }
+            }
+            return !copyFailed;
+        }
+
+        // Only the cache file is ours to close; the caller owns the response stream
+        @Override
+        public void close() {
+            finishCopy();
+        }
+    }
+}
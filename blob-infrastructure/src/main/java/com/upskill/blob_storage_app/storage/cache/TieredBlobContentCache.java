@@ -0,0 +1,128 @@
+package com.upskill.blob_storage_app.storage.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Two byte-budgeted tiers of blob content: small objects kept in memory, larger ones as files
+ * in a local cache directory. Both tiers are Caffeine caches weighed by size, so eviction is
+ * W-TinyLFU and a one-off download of a large object cannot flush the popular ones. The disk
+ * tier does not survive restarts; its files are removed on start-up.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.cache.enabled", havingValue = "true")
+public class TieredBlobContentCache implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(TieredBlobContentCache.class);
+    private static final int KILOBYTE = 1024;
+    private static final String FILE_PREFIX = "blob-";
+    private static final String FILE_SUFFIX = ".cache";
+
+    private final Path directory;
+    private final long memoryMaxObjectSize;
+    private final long diskMaxObjectSize;
+    private final Cache<String, byte[]> memory;
+    private final Cache<String, CachedFile> disk;
+
+    public TieredBlobContentCache(
+            @Value("${storage.cache.memory.max-size:256MB}") DataSize memoryMaxSize,
+            @Value("${storage.cache.memory.max-object-size:1MB}") DataSize memoryMaxObjectSize,
+            @Value("${storage.cache.disk.path:${java.io.tmpdir}/blob-cache}") String directory,
+            @Value("${storage.cache.disk.max-size:10GB}") DataSize diskMaxSize,
+            @Value("${storage.cache.disk.max-object-size:1GB}") DataSize diskMaxObjectSize) {
+        this.directory = Paths.get(directory);
+        this.memoryMaxObjectSize = memoryMaxObjectSize.toBytes();
+        this.diskMaxObjectSize = diskMaxObjectSize.toBytes();
+        this.memory = Caffeine.newBuilder()
+                .maximumWeight(memoryMaxSize.toBytes())
+                .weigher((String key, byte[] bytes) -> bytes.length)
+                .recordStats()
+                .build();
+        // Weighed in KiB so files above 2GB still fit Caffeine's int weights
+        this.disk = Caffeine.newBuilder()
+                .maximumWeight(diskMaxSize.toKilobytes())
+                .weigher((String key, CachedFile file) -> (int) Math.min(Integer.MAX_VALUE, (file.size() + KILOBYTE - 1) / KILOBYTE))
+                .removalListener((String key, CachedFile file, RemovalCause cause) -> deleteQuietly(file.path()))
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(directory);
+        // Only our own files: the directory is configurable and may be shared
+        try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            stale.forEach(TieredBlobContentCache::deleteQuietly);
+        }
+        log.info("Blob content cache at {}: memory objects up to {} bytes, disk objects up to {} bytes",
+                directory, memoryMaxObjectSize, diskMaxObjectSize);
+    }
+
+    byte[] getFromMemory(String key) {
+        return memory.getIfPresent(key);
+    }
+
+    Path getFromDisk(String key) {
+        CachedFile file = disk.getIfPresent(key);
+        return file == null ? null : file.path();
+    }
+
+    boolean fitsInMemory(long size) {
+        return size >= 0 && size <= memoryMaxObjectSize;
+    }
+
+    boolean fitsOnDisk(long size) {
+        return size >= 0 && size <= diskMaxObjectSize;
+    }
+
+    void putInMemory(String key, byte[] content) {
+        memory.put(key, content);
+    }
+
+    Path newDiskFile() throws IOException {
+        return Files.createTempFile(directory, FILE_PREFIX, FILE_SUFFIX);
+    }
+
+    void putOnDisk(String key, Path file, long size) {
+        disk.put(key, new CachedFile(file, size));
+    }
+
+    void invalidate(String key) {
+        memory.invalidate(key);
+        disk.invalidate(key);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, memory, "blobContent.memory");
+        CaffeineCacheMetrics.monitor(registry, disk, "blobContent.disk");
+    }
+
+    static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete cached blob file {}", path, e);
+        }
+    }
+
+    private record CachedFile(Path path, long size) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.upskill.blob_storage_app.storage.local;
+
+import com.upskill.blob_storage_app.exception.BlobStorageException;
+import com.upskill.blob_storage_app.port.output.ReactiveBlobStoragePort;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * Streams content to and from local storage through {@code AsynchronousFileChannel}, so file
+ * reads and writes never occupy an event-loop thread. Uses the same key layout and
+ * write-then-rename protocol as {@link LocalStorageAdapter}; only the directory and rename
+ * metadata calls run on the bounded elastic scheduler.
+ */
+public class LocalReactiveStorageAdapter implements ReactiveBlobStoragePort {
+    private static final Logger log = LoggerFactory.getLogger(LocalReactiveStorageAdapter.class);
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final Path basePath;
+
+    public LocalReactiveStorageAdapter(String basePath) {
+        this.basePath = Paths.get(basePath);
+    }
+
+    @Override
+    public Mono<String> upload(Flux<DataBuffer> content, long contentLength, String filename, String contentType, StorageProvider provider) {
+        String key = LocalStorageAdapter.shardedKey(UUID.randomUUID().toString(), filename);
+        Path filePath = basePath.resolve(key);
+        return Mono.fromCallable(() -> {
+                    Files.createDirectories(filePath.getParent());
+                    return Files.createTempFile(filePath.getParent(), LocalStorageAdapter.TEMP_FILE_PREFIX, ".tmp");
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(tempPath -> DataBufferUtils.write(content, tempPath, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+                        .then(Mono.fromCallable(() -> Files.move(tempPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING))
+                                .subscribeOn(Schedulers.boundedElastic()))
+                        .doOnError(e -> deletePartialUpload(tempPath))
+                        .doOnCancel(() -> deletePartialUpload(tempPath)))
+                .doOnSuccess(stored -> log.info("Upload to local storage complete: {}", filePath))
+                .onErrorMap(IOException.class, e -> new BlobStorageException("Failed to upload file to local storage", e))
+                .thenReturn(key);
+    }
+
+    @Override
+    public Flux<DataBuffer> download(String location, StorageProvider provider) {
+        Path filePath = basePath.resolve(location);
+        log.info("Streaming from local storage: {}", filePath);
+        return DataBufferUtils.read(filePath, DefaultDataBufferFactory.sharedInstance, READ_BUFFER_SIZE)
+                .onErrorMap(IOException.class, e -> new BlobStorageException("Failed to download file from local storage", e));
+    }
+
+    private void deletePartialUpload(Path tempPath) {
+        try {
+            Files.deleteIfExists(tempPath);
+        } catch (IOException e) {
+            log.warn("Failed to remove partial upload: {}", tempPath, e);
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.upskill.blob_storage_app.storage.local;
 
+import com.upskill.blob_storage_app.port.output.BlobContent;
 import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.port.output.FileBlobContent;
+import com.upskill.blob_storage_app.port.output.StagedUpload;
+import com.upskill.blob_storage_app.port.output.StoredObject;
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
 import com.upskill.blob_storage_app.valueobject.StorageProvider;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.slf4j.Logger;
@@ -10,49 +15,110 @@ import org.slf4j.LoggerFactory;
 import com.upskill.blob_storage_app.exception.BlobStorageException;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
-@RequiredArgsConstructor
 public class LocalStorageAdapter implements BlobStoragePort {
 
     private static final Logger log = LoggerFactory.getLogger(LocalStorageAdapter.class);
+    private static final String DELIMITER = "/";
+    // Shared with the reactive adapter so listings skip its in-flight files too
+    static final String TEMP_FILE_PREFIX = ".upload-";
+    // Starts with the temp prefix so listings skip staged parts as well
+    private static final String STAGING_DIR = TEMP_FILE_PREFIX + "staging";
+
+    // Query parameters of the signed URLs that stand in for presigned ones
+    private static final String KEY_PARAM = "key";
+    private static final String FILENAME_PARAM = "filename";
+    private static final String CONTENT_TYPE_PARAM = "contentType";
+    private static final String CODEC_PARAM = "codec";
+    private static final String SIZE_PARAM = "size";
+    private static final String MODIFIED_PARAM = "modified";
+    private static final String STAGING_PARAM = "staging";
+    private static final String PART_PARAM = "part";
+    private static final String LENGTH_PARAM = "length";
+
+    private final ExecutorService deleteExecutor;
+    private final LocalUrlSigner urlSigner;
 
     @Value("${storage.local.base-path}")
     private String basePath;
 
+    public LocalStorageAdapter(@Qualifier("blobBatchExecutor") ExecutorService deleteExecutor, LocalUrlSigner urlSigner) {
+        this.deleteExecutor = deleteExecutor;
+        this.urlSigner = urlSigner;
+    }
+
+    /**
+     * A part upload authorized by a URL from {@link #presignPart}.
+     */
+    public record SignedPart(StagedUpload upload, int partNumber, long contentLength) {
+    }
+
     @Override
-    public String upload(byte[] content, String filename, String contentType, StorageProvider provider) {
+    public String upload(InputStream content, long contentLength, String filename, String contentType, StorageProvider provider) {
+        String key = generateKey(filename);
+        uploadTo(key, content, contentLength, contentType, provider);
+        return key;
+    }
+
+    // Writes to a temp sibling and renames it into place, so readers never see a partial file
+    // and concurrent writers of the same content-addressed key simply replace each other.
+    @Override
+    public void uploadTo(String location, InputStream content, long contentLength, String contentType, StorageProvider provider) {
+        Path tempPath = null;
         try {
-            Path directory = createDirectoryIfNotExists();
-            String key = generateKey(filename);
-            Path filePath = directory.resolve(key);
+            Path filePath = createDirectoryIfNotExists().resolve(location);
+            Files.createDirectories(filePath.getParent());
+            tempPath = Files.createTempFile(filePath.getParent(), TEMP_FILE_PREFIX, ".tmp");
             log.info("Uploading to local storage: {}", filePath);
-            Files.write(filePath, content);
+            Files.copy(content, tempPath, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
             log.info("Upload to local storage complete: {}", filePath);
-            return key;
         } catch (IOException e) {
             log.error("Failed to upload to local storage", e);
+            deletePartialUpload(tempPath);
             throw new BlobStorageException("Failed to upload file to local storage", e);
         }
     }
 
     @Override
-    public byte[] download(String location, StorageProvider provider) {
+    public BlobContent download(String location, StorageProvider provider) {
         try {
             Path filePath = Paths.get(basePath, location);
             log.info("Downloading from local storage: {}", filePath);
-            byte[] data = Files.readAllBytes(filePath);
-            log.info("Download from local storage complete: {}", filePath);
-            return data;
+            return new FileBlobContent(filePath);
         } catch (IOException e) {
             log.error("Failed to download from local storage: {}", location, e);
             throw new BlobStorageException("Failed to download file from local storage", e);
         }
     }
 
+    @Override
+    public BlobContent download(String location, long offset, long length, StorageProvider provider) {
+        try {
+            Path filePath = Paths.get(basePath, location);
+            log.info("Downloading range from local storage: {} offset={} length={}", filePath, offset, length);
+            return new FileBlobContent(filePath, offset, length);
+        } catch (IOException e) {
+            log.error("Failed to download range from local storage: {}", location, e);
+            throw new BlobStorageException("Failed to download file from local storage", e);
+        }
+    }
+
     @Override
     public void delete(String location, StorageProvider provider) {
         try {
@@ -66,29 +132,191 @@ public class LocalStorageAdapter implements BlobStoragePort {
         }
     }
 
+    // Files are removed concurrently; each delete is a metadata operation that mostly waits on the filesystem
+    @Override
+    public Map<String, String> deleteAll(List<String> locations, StorageProvider provider) {
+        log.info("Bulk deleting {} files from local storage", locations.size());
+        List<Future<?>> deletes = locations.stream()
+                .map(location -> deleteExecutor.submit(() -> Files.deleteIfExists(Paths.get(basePath, location))))
+                .collect(Collectors.toList());
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (int i = 0; i < deletes.size(); i++) {
+            try {
+                deletes.get(i).get();
+            } catch (ExecutionException e) {
+                log.error("Failed to delete from local storage: {}", locations.get(i), e.getCause());
+                failures.put(locations.get(i), e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                deletes.forEach(delete -> delete.cancel(true));
+                throw new BlobStorageException("Interrupted while deleting from local storage", e);
+            }
+        }
+        log.info("Bulk delete from local storage complete: {} deleted, {} failed", locations.size() - failures.size(), failures.size());
+        return failures;
+    }
+
+    // Only walks the deepest directory the prefix names, so with the sharded key layout a
+    // listing touches the entries under that prefix rather than the whole store. The walk is
+    // lazy and the caller closes the stream; with "/" as delimiter only one level is read.
     @Override
-    public List<String> list(String prefix, StorageProvider provider) {
+    public Stream<String> streamKeys(String prefix, String delimiter, StorageProvider provider) {
+        if (delimiter != null && !DELIMITER.equals(delimiter)) {
+            throw new IllegalArgumentException("Local storage only supports '/' as delimiter: " + delimiter);
+        }
+        Path directory = Paths.get(basePath);
+        Path start = directory.resolve(prefix.substring(0, prefix.lastIndexOf('/') + 1));
+        log.info("Listing local storage files in: {} with prefix {}", start, prefix);
+        if (!Files.isDirectory(start)) {
+            return Stream.empty();
+        }
         try {
-            Path directory = Paths.get(basePath);
-            log.info("Listing local storage files in: {} with prefix {}", directory, prefix);
-            List<String> files = Files.walk(directory)
-                    .filter(Files::isRegularFile)
-                    .map(directory::relativize)
-                    .map(Path::toString)
-                    .filter(path -> path.startsWith(prefix))
-                    .collect(Collectors.toList());
-            log.info("Local storage list complete: found {} files", files.size());
-            return files;
+            Stream<Path> paths = delimiter == null
+                    ? Files.walk(start).filter(Files::isRegularFile)
+                    : Files.list(start);
+            return paths
+                    .filter(path -> !path.getFileName().toString().startsWith(TEMP_FILE_PREFIX))
+                    .map(path -> toKey(directory, path))
+                    .filter(key -> !key.startsWith(STAGING_DIR))
+                    .filter(key -> key.startsWith(prefix));
         } catch (IOException e) {
             log.error("Failed to list files in local storage", e);
             throw new BlobStorageException("Failed to list files in local storage", e);
         }
     }
 
+    private static String toKey(Path directory, Path path) {
+        String key = directory.relativize(path).toString();
+        return Files.isDirectory(path) ? key + DELIMITER : key;
+    }
+
+    // Parts are staged as numbered segment files under STAGING_DIR and concatenated on completion
+    @Override
+    public StagedUpload beginStaged(String filename, String contentType, StorageProvider provider) {
+        String stagingId = java.util.UUID.randomUUID().toString();
+        try {
+            Files.createDirectories(stagingDirectory(stagingId));
+        } catch (IOException e) {
+            log.error("Failed to create staging directory for {}", stagingId, e);
+            throw new BlobStorageException("Failed to start staged upload to local storage", e);
+        }
+        return new StagedUpload(generateKey(filename), stagingId);
+    }
+
+    @Override
+    public String uploadPart(StagedUpload upload, int partNumber, InputStream content, long contentLength, StorageProvider provider) {
+        Path directory = stagingDirectory(upload.stagingId());
+        Path tempPath = null;
+        try {
+            // Never recreated here, so a part racing an abort can't resurrect the upload
+            if (!Files.isDirectory(directory)) {
+                throw new BlobStorageException("No staged upload " + upload.stagingId() + " in local storage");
+            }
+            tempPath = Files.createTempFile(directory, TEMP_FILE_PREFIX, ".tmp");
+            long size = Files.copy(content, tempPath, StandardCopyOption.REPLACE_EXISTING);
+            // A short part must not replace a complete copy staged earlier
+            if (contentLength >= 0 && size != contentLength) {
+                deletePartialUpload(tempPath);
+                throw new BlobStorageException("Part " + partNumber + " ended after " + size + " of " + contentLength + " bytes");
+            }
+            Files.move(tempPath, directory.resolve(segmentName(partNumber)), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return Long.toString(size);
+        } catch (IOException e) {
+            log.error("Failed to stage part {} of {}", partNumber, upload.stagingId(), e);
+            deletePartialUpload(tempPath);
+            throw new BlobStorageException("Failed to upload part " + partNumber + " to local storage", e);
+        }
+    }
+
+    @Override
+    public void completeStaged(StagedUpload upload, List<String> partTags, StorageProvider provider) {
+        Path directory = stagingDirectory(upload.stagingId());
+        Path tempPath = null;
+        try {
+            Path filePath = createDirectoryIfNotExists().resolve(upload.location());
+            Files.createDirectories(filePath.getParent());
+            tempPath = Files.createTempFile(filePath.getParent(), TEMP_FILE_PREFIX, ".tmp");
+            try (FileChannel target = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+                for (int partNumber = 1; partNumber <= partTags.size(); partNumber++) {
+                    try (FileChannel segment = FileChannel.open(directory.resolve(segmentName(partNumber)), StandardOpenOption.READ)) {
+                        long size = segment.size();
+                        for (long position = 0; position < size; ) {
+                            position += segment.transferTo(position, size - position, target);
+                        }
+                    }
+                }
+            }
+            Files.move(tempPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            log.info("Assembled {} staged parts into {}", partTags.size(), filePath);
+        } catch (IOException e) {
+            log.error("Failed to complete staged upload {}", upload.stagingId(), e);
+            deletePartialUpload(tempPath);
+            throw new BlobStorageException("Failed to complete staged upload to local storage", e);
+        }
+        deleteStaging(directory);
+    }
+
+    @Override
+    public void abortStaged(StagedUpload upload, StorageProvider provider) {
+        Path directory = stagingDirectory(upload.stagingId());
+        if (Files.isDirectory(directory) && !deleteStaging(directory)) {
+            throw new BlobStorageException("Failed to abort staged upload " + upload.stagingId() + " in local storage");
+        }
+    }
+
+    // Without blob metadata the file is served as an octet stream under its own name
     @Override
     public String generatePresignedUrl(String location, StorageProvider provider, long expirationMinutes) {
-        // Local storage doesn't support presigned URLs
-        throw new UnsupportedOperationException("Presigned URLs are not supported for local storage");
+        Path filePath = Paths.get(basePath, location);
+        try {
+            return presignDownload(new StoredObject(location, filePath.getFileName().toString(), "application/octet-stream",
+                    CompressionCodec.NONE, Files.size(filePath), Files.getLastModifiedTime(filePath).toInstant()),
+                    Duration.ofMinutes(expirationMinutes), provider);
+        } catch (IOException e) {
+            log.error("Failed to presign local file: {}", location, e);
+            throw new BlobStorageException("Failed to generate presigned URL for local storage", e);
+        }
+    }
+
+    // Local storage has no presigner of its own, so URLs are signed here and served by this service
+    @Override
+    public String presignDownload(StoredObject object, Duration expiry, StorageProvider provider) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put(KEY_PARAM, object.location());
+        params.put(FILENAME_PARAM, object.filename());
+        params.put(CONTENT_TYPE_PARAM, object.contentType());
+        params.put(CODEC_PARAM, object.compressionCodec().name());
+        params.put(SIZE_PARAM, Long.toString(object.size()));
+        params.put(MODIFIED_PARAM, Long.toString(object.lastModified().toEpochMilli()));
+        return urlSigner.sign("GET", params, Instant.now().plus(expiry));
+    }
+
+    @Override
+    public String presignPart(StagedUpload upload, int partNumber, long contentLength, Duration expiry, StorageProvider provider) {
+        return urlSigner.sign("PUT", Map.of(
+                KEY_PARAM, upload.location(),
+                STAGING_PARAM, upload.stagingId(),
+                PART_PARAM, Integer.toString(partNumber),
+                LENGTH_PARAM, Long.toString(contentLength)), Instant.now().plus(expiry));
+    }
+
+    // Empty when the parameters are not those of an unexpired URL from presignDownload
+    public Optional<StoredObject> verifyDownload(Map<String, String> params) {
+        if (!urlSigner.verify("GET", params)) {
+            return Optional.empty();
+        }
+        return Optional.of(new StoredObject(params.get(KEY_PARAM), params.get(FILENAME_PARAM), params.get(CONTENT_TYPE_PARAM),
+                CompressionCodec.valueOf(params.get(CODEC_PARAM)), Long.parseLong(params.get(SIZE_PARAM)),
+                Instant.ofEpochMilli(Long.parseLong(params.get(MODIFIED_PARAM)))));
+    }
+
+    // Empty when the parameters are not those of an unexpired URL from presignPart
+    public Optional<SignedPart> verifyPart(Map<String, String> params) {
+        if (!urlSigner.verify("PUT", params)) {
+            return Optional.empty();
+        }
+        return Optional.of(new SignedPart(new StagedUpload(params.get(KEY_PARAM), params.get(STAGING_PARAM)),
+                Integer.parseInt(params.get(PART_PARAM)), Long.parseLong(params.get(LENGTH_PARAM))));
     }
 
     private Path createDirectoryIfNotExists() throws IOException {
@@ -99,7 +327,46 @@ public class LocalStorageAdapter implements BlobStoragePort {
         return directory;
     }
 
+    private Path stagingDirectory(String stagingId) {
+        return Paths.get(basePath, STAGING_DIR, stagingId);
+    }
+
+    private static String segmentName(int partNumber) {
+        return String.format("%05d", partNumber);
+    }
+
+    private boolean deleteStaging(Path directory) {
+        try (Stream<Path> segments = Files.list(directory)) {
+            for (Path segment : segments.toList()) {
+                Files.deleteIfExists(segment);
+            }
+            Files.deleteIfExists(directory);
+            return true;
+        } catch (NoSuchFileException e) {
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to remove staging directory: {}", directory, e);
+            return false;
+        }
+    }
+
+    private void deletePartialUpload(Path filePath) {
+        if (filePath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            log.warn("Failed to remove partial upload: {}", filePath, e);
+        }
+    }
+
+    // ab/cd/<uuid>/<filename>: two levels of 256-way sharding keep every directory small
     private String generateKey(String filename) {
-        return String.format("%s/%s", java.util.UUID.randomUUID(), filename);
+        return shardedKey(java.util.UUID.randomUUID().toString(), filename);
+    }
+
+    static String shardedKey(String id, String filename) {
+        return String.format("%s/%s/%s/%s", id.substring(0, 2), id.substring(2, 4), id, filename);
     }
 } 
\ No newline at end of file
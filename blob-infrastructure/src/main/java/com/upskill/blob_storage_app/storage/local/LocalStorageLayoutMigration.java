@@ -0,0 +1,98 @@
+package com.upskill.blob_storage_app.storage.local;
+
+import com.upskill.blob_storage_app.repository.BlobRepository;
+import com.upskill.blob_storage_app.service.BlobMetadataCache;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * One-off migration of local blobs from the flat {@code uuid/filename} layout to the sharded
+ * {@code ab/cd/uuid/filename} layout. Each file is moved and its blob row repointed before the
+ * next one, so the migration can be interrupted and re-run. Enable with
+ * {@code storage.local.migrate-layout=true} for a single start-up.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.local.migrate-layout", havingValue = "true")
+public class LocalStorageLayoutMigration implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalStorageLayoutMigration.class);
+    private static final Pattern UUID_DIRECTORY = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+    private final BlobRepository blobRepository;
+    private final BlobMetadataCache blobMetadataCache;
+
+    @Value("${storage.local.base-path}")
+    private String basePath;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path root = Paths.get(basePath);
+        if (!Files.isDirectory(root)) {
+            log.info("Local storage {} does not exist; nothing to migrate", root);
+            return;
+        }
+        List<Path> legacyDirectories;
+        try (Stream<Path> entries = Files.list(root)) {
+            legacyDirectories = entries
+                    .filter(Files::isDirectory)
+                    .filter(dir -> UUID_DIRECTORY.matcher(dir.getFileName().toString()).matches())
+                    .toList();
+        }
+        log.info("Migrating {} legacy blob directories under {}", legacyDirectories.size(), root);
+        int migrated = 0;
+        for (Path directory : legacyDirectories) {
+            migrated += migrateDirectory(root, directory);
+        }
+        blobMetadataCache.invalidateAll();
+        log.info("Local storage layout migration complete: {} files moved", migrated);
+    }
+
+    private int migrateDirectory(Path root, Path directory) throws IOException {
+        String id = directory.getFileName().toString();
+        List<Path> files;
+        try (Stream<Path> entries = Files.list(directory)) {
+            files = entries.filter(Files::isRegularFile).toList();
+        }
+        int migrated = 0;
+        for (Path file : files) {
+            String oldKey = id + "/" + file.getFileName();
+            String newKey = LocalStorageAdapter.shardedKey(id, file.getFileName().toString());
+            Path target = root.resolve(newKey);
+            Files.createDirectories(target.getParent());
+            Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+            try {
+                int updated = blobRepository.updateStorageLocation(StorageProvider.LOCAL, oldKey, newKey);
+                if (updated == 0) {
+                    log.warn("No blob row references {}; moved file is unreferenced", oldKey);
+                }
+            } catch (RuntimeException e) {
+                Files.move(target, file, StandardCopyOption.ATOMIC_MOVE);
+                throw e;
+            }
+            migrated++;
+        }
+        try (Stream<Path> remaining = Files.list(directory)) {
+            if (remaining.findAny().isEmpty()) {
+                Files.delete(directory);
+            }
+        }
+        return migrated;
+    }
+}
@@ -0,0 +1,107 @@
+package com.upskill.blob_storage_app.storage.local;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Stands in for S3's presigner on local storage. A URL carries the parameters of one request
+ * and its expiry, authenticated with HMAC-SHA256 under a key only this service holds, so it
+ * needs no API key and cannot be altered or used after it expires.
+ */
+@Component
+public class LocalUrlSigner {
+    private static final Logger log = LoggerFactory.getLogger(LocalUrlSigner.class);
+    private static final String ALGORITHM = "HmacSHA256";
+
+    public static final String PATH = "/api/v1/storage/local";
+    static final String EXPIRES = "expires";
+    static final String SIGNATURE = "signature";
+
+    private final SecretKeySpec key;
+    private final String endpoint;
+
+    // PATH is servlet-relative, so the context path goes between it and the public base URL
+    public LocalUrlSigner(@Value("${storage.local.presign.secret:}") String secret,
+                          @Value("${storage.local.presign.base-url:http://localhost:8080}") String baseUrl,
+                          @Value("${server.servlet.context-path:}") String contextPath) {
+        byte[] keyBytes;
+        if (secret.isBlank()) {
+            // Fine for a single node; every restart invalidates the URLs handed out so far
+            log.warn("No storage.local.presign.secret configured; signing local URLs with a random key");
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.endpoint = trimTrailingSlash(baseUrl.strip()) + trimTrailingSlash(contextPath.strip()) + PATH;
+    }
+
+    public String sign(String method, Map<String, String> params, Instant expires) {
+        SortedMap<String, String> signed = new TreeMap<>(params);
+        signed.put(EXPIRES, Long.toString(expires.getEpochSecond()));
+        String query = canonicalQuery(signed);
+        return endpoint + "?" + query + "&" + SIGNATURE + "=" + signature(method, query);
+    }
+
+    // params are the decoded query parameters of the request, signature included
+    public boolean verify(String method, Map<String, String> params) {
+        String presented = params.get(SIGNATURE);
+        String expires = params.get(EXPIRES);
+        if (presented == null || expires == null) {
+            return false;
+        }
+        try {
+            if (Instant.ofEpochSecond(Long.parseLong(expires)).isBefore(Instant.now())) {
+                return false;
+            }
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        SortedMap<String, String> signed = new TreeMap<>(params);
+        signed.remove(SIGNATURE);
+        String expected = signature(method, canonicalQuery(signed));
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.US_ASCII), presented.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String signature(String method, String canonicalQuery) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] digest = mac.doFinal((method + "\n" + canonicalQuery).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static String canonicalQuery(SortedMap<String, String> params) {
+        return params.entrySet().stream()
+                .map(param -> encode(param.getKey()) + "=" + encode(param.getValue()))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String trimTrailingSlash(String value) {
+        return value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
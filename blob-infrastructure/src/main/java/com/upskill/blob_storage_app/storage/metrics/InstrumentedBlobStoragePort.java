@@ -0,0 +1,344 @@
+package com.upskill.blob_storage_app.storage.metrics;
+
+import com.upskill.blob_storage_app.io.CountingInputStream;
+import com.upskill.blob_storage_app.port.output.BlobContent;
+import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.port.output.FileBlobContent;
+import com.upskill.blob_storage_app.port.output.StagedUpload;
+import com.upskill.blob_storage_app.port.output.StoredObject;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Records every call through one provider's {@link BlobStoragePort} as meters tagged with the
+ * provider and operation: a latency timer per outcome, an error counter per exception type, a
+ * gauge of calls in flight, and the bytes written to and read from storage.
+ *
+ * <p>A download is timed until the provider has opened the object; its bytes are counted as the
+ * caller streams them, or as soon as it is opened when it is a local file the container may send
+ * itself. A key listing is timed until its stream is closed, since pages are only
+ * fetched as the caller consumes it.
+ */
+public class InstrumentedBlobStoragePort implements BlobStoragePort {
+
+    private static final String WRITTEN = "blob.storage.bytes.written";
+    private static final String READ = "blob.storage.bytes.read";
+
+    enum Operation {
+        UPLOAD("upload", WRITTEN),
+        UPLOAD_TO("uploadTo", WRITTEN),
+        DOWNLOAD("download", READ),
+        DOWNLOAD_RANGE("downloadRange", READ),
+        DELETE("delete", null),
+        DELETE_ALL("deleteAll", null),
+        LIST("list", null),
+        PRESIGN("presign", null),
+        PRESIGN_PART("presignPart", null),
+        BEGIN_STAGED("beginStaged", null),
+        UPLOAD_PART("uploadPart", WRITTEN),
+        COMPLETE_STAGED("completeStaged", null),
+        ABORT_STAGED("abortStaged", null);
+
+        private final String tag;
+        // Null for operations that move no content
+        private final String bytesMeter;
+
+        Operation(String tag, String bytesMeter) {
+            this.tag = tag;
+            this.bytesMeter = bytesMeter;
+        }
+    }
+
+    private final BlobStoragePort delegate;
+    private final MeterRegistry registry;
+    private final StorageProvider provider;
+    // Registered up front, so a call only touches meters it already holds
+    private final Map<Operation, OperationMeters> meters = new EnumMap<>(Operation.class);
+
+    public InstrumentedBlobStoragePort(BlobStoragePort delegate, MeterRegistry registry, StorageProvider provider) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.provider = provider;
+        for (Operation operation : Operation.values()) {
+            meters.put(operation, new OperationMeters(operation));
+        }
+    }
+
+    @Override
+    public String upload(InputStream content, long contentLength, String filename, String contentType, StorageProvider provider) {
+        CountingInputStream counted = new CountingInputStream(content);
+        try {
+            return record(Operation.UPLOAD, () -> delegate.upload(counted, contentLength, filename, contentType, provider));
+        } finally {
+            meters.get(Operation.UPLOAD).bytes.increment(counted.getCount());
+        }
+    }
+
+    @Override
+    public void uploadTo(String location, InputStream content, long contentLength, String contentType, StorageProvider provider) {
+        CountingInputStream counted = new CountingInputStream(content);
+        try {
+            run(Operation.UPLOAD_TO, () -> delegate.uploadTo(location, counted, contentLength, contentType, provider));
+        } finally {
+            meters.get(Operation.UPLOAD_TO).bytes.increment(counted.getCount());
+        }
+    }
+
+    @Override
+    public BlobContent download(String location, StorageProvider provider) {
+        BlobContent content = record(Operation.DOWNLOAD, () -> delegate.download(location, provider));
+        return counted(content, meters.get(Operation.DOWNLOAD).bytes);
+    }
+
+    @Override
+    public BlobContent download(String location, long offset, long length, StorageProvider provider) {
+        BlobContent content = record(Operation.DOWNLOAD_RANGE, () -> delegate.download(location, offset, length, provider));
+        return counted(content, meters.get(Operation.DOWNLOAD_RANGE).bytes);
+    }
+
+    @Override
+    public void delete(String location, StorageProvider provider) {
+        run(Operation.DELETE, () -> delegate.delete(location, provider));
+    }
+
+    @Override
+    public Map<String, String> deleteAll(List<String> locations, StorageProvider provider) {
+        return record(Operation.DELETE_ALL, () -> delegate.deleteAll(locations, provider));
+    }
+
+    @Override
+    public Stream<String> streamKeys(String prefix, String delimiter, StorageProvider provider) {
+        OperationMeters list = meters.get(Operation.LIST);
+        Timer.Sample sample = list.start();
+        AtomicBoolean finished = new AtomicBoolean();
+        Stream<String> keys;
+        try {
+            keys = delegate.streamKeys(prefix, delimiter, provider);
+        } catch (RuntimeException e) {
+            finished.set(true);
+            list.failed(sample, e);
+            throw e;
+        }
+        Iterator<String> iterator = keys.iterator();
+        Iterator<String> observed = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return iterator.hasNext();
+                } catch (RuntimeException e) {
+                    fail(e);
+                    throw e;
+                }
+            }
+
+            @Override
+            public String next() {
+                try {
+                    return iterator.next();
+                } catch (RuntimeException e) {
+                    fail(e);
+                    throw e;
+                }
+            }
+
+            private void fail(RuntimeException e) {
+                if (finished.compareAndSet(false, true)) {
+                    list.failed(sample, e);
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(observed, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        keys.close();
+                    } finally {
+                        if (finished.compareAndSet(false, true)) {
+                            list.succeeded(sample);
+                        }
+                    }
+                });
+    }
+
+    @Override
+    public String generatePresignedUrl(String location, StorageProvider provider, long expirationMinutes) {
+        return record(Operation.PRESIGN, () -> delegate.generatePresignedUrl(location, provider, expirationMinutes));
+    }
+
+    @Override
+    public String presignDownload(StoredObject object, Duration expiry, StorageProvider provider) {
+        return record(Operation.PRESIGN, () -> delegate.presignDownload(object, expiry, provider));
+    }
+
+    @Override
+    public String presignPart(StagedUpload upload, int partNumber, long contentLength, Duration expiry, StorageProvider provider) {
+        return record(Operation.PRESIGN_PART, () -> delegate.presignPart(upload, partNumber, contentLength, expiry, provider));
+    }
+
+    @Override
+    public StagedUpload beginStaged(String filename, String contentType, StorageProvider provider) {
+        return record(Operation.BEGIN_STAGED, () -> delegate.beginStaged(filename, contentType, provider));
+    }
+
+    @Override
+    public String uploadPart(StagedUpload upload, int partNumber, InputStream content, long contentLength, StorageProvider provider) {
+        CountingInputStream counted = new CountingInputStream(content);
+        try {
+            return record(Operation.UPLOAD_PART, () -> delegate.uploadPart(upload, partNumber, counted, contentLength, provider));
+        } finally {
+            meters.get(Operation.UPLOAD_PART).bytes.increment(counted.getCount());
+        }
+    }
+
+    @Override
+    public void completeStaged(StagedUpload upload, List<String> partTags, StorageProvider provider) {
+        run(Operation.COMPLETE_STAGED, () -> delegate.completeStaged(upload, partTags, provider));
+    }
+
+    @Override
+    public void abortStaged(StagedUpload upload, StorageProvider provider) {
+        run(Operation.ABORT_STAGED, () -> delegate.abortStaged(upload, provider));
+    }
+
+    // File-backed content goes out unwrapped, since the web layer only hands a FileBlobContent to
+    // sendfile; its bytes are counted up front because the container sends them, not the caller
+    private static BlobContent counted(BlobContent content, Counter bytes) {
+        if (content instanceof FileBlobContent) {
+            bytes.increment(content.getContentLength());
+            return content;
+        }
+        return new CountedBlobContent(content, bytes);
+    }
+
+    private <T> T record(Operation operation, Supplier<T> call) {
+        OperationMeters operationMeters = meters.get(operation);
+        Timer.Sample sample = operationMeters.start();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            operationMeters.failed(sample, e);
+            throw e;
+        }
+        operationMeters.succeeded(sample);
+        return result;
+    }
+
+    private void run(Operation operation, Runnable call) {
+        record(operation, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private final class OperationMeters {
+        private final Operation operation;
+        private final Timer succeeded;
+        private final Timer failed;
+        private final Counter bytes;
+        private final AtomicInteger active = new AtomicInteger();
+
+        private OperationMeters(Operation operation) {
+            this.operation = operation;
+            this.succeeded = timer(operation, "success");
+            this.failed = timer(operation, "error");
+            this.bytes = operation.bytesMeter == null ? null : Counter.builder(operation.bytesMeter)
+                    .description("Content bytes moved between the service and the storage provider")
+                    .baseUnit("bytes")
+                    .tags("provider", provider.name(), "operation", operation.tag)
+                    .register(registry);
+            Gauge.builder("blob.storage.active", active, AtomicInteger::get)
+                    .description("Storage calls in flight")
+                    .tags("provider", provider.name(), "operation", operation.tag)
+                    .register(registry);
+        }
+
+        private Timer.Sample start() {
+            active.incrementAndGet();
+            return Timer.start(registry);
+        }
+
+        private void succeeded(Timer.Sample sample) {
+            active.decrementAndGet();
+            sample.stop(succeeded);
+        }
+
+        private void failed(Timer.Sample sample, RuntimeException e) {
+            active.decrementAndGet();
+            sample.stop(failed);
+            // Errors are rare, so resolving the counter per exception type on the way is cheap enough
+            Counter.builder("blob.storage.errors")
+                    .description("Storage calls that threw, by exception type")
+                    .tags("provider", provider.name(), "operation", operation.tag, "exception", e.getClass().getSimpleName())
+                    .register(registry)
+                    .increment();
+        }
+
+        private Timer timer(Operation operation, String outcome) {
+            return Timer.builder("blob.storage.requests")
+                    .description("Latency of calls to the storage provider")
+                    .tags("provider", provider.name(), "operation", operation.tag, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Counts content bytes as the caller streams them and adds them to the read counter on close.
+     */
+    private static final class CountedBlobContent implements BlobContent {
+        private final BlobContent content;
+        private final Counter bytes;
+        private CountingInputStream counted;
+        private long transferred;
+
+        private CountedBlobContent(BlobContent content, Counter bytes) {
+            this.content = content;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public long getContentLength() {
+            return content.getContentLength();
+        }
+
+        @Override
+        public long transferTo(OutputStream out) throws IOException {
+            long n = content.transferTo(out);
+            transferred += n;
+            return n;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            counted = new CountingInputStream(content.getInputStream());
+            return counted;
+        }
+
+        @Override
+        public void close() throws IOException {
+            bytes.increment(transferred + (counted != null ? counted.getCount() : 0));
+            transferred = 0;
+            counted = null;
+            content.close();
+        }
+    }
+}
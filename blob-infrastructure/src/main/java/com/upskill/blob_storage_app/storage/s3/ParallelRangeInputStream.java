@@ -0,0 +1,157 @@
+package com.upskill.blob_storage_app.storage.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Reassembles an object from byte ranges fetched concurrently. The first range is read live
+ * from an already-open stream while up to {@code window} following ranges are fetched in the
+ * background; the queue of pending fetches is the reorder buffer, so at most
+ * {@code window * rangeSize} bytes are held regardless of object size.
+ *
+ * <p>Every buffered range also takes a permit from {@code budget}, which is shared by all
+ * downloads so their buffers together stay bounded. A range that finds no permit is not
+ * buffered at all: it is streamed when the reader gets to it, and the download degrades to
+ * sequential instead of waiting on other downloads' readers.
+ */
+class ParallelRangeInputStream extends InputStream {
+
+    interface RangeFetcher {
+        byte[] fetch(long offset, long length) throws IOException;
+
+        default InputStream open(long offset, long length) throws IOException {
+            return new ByteArrayInputStream(fetch(offset, length));
+        }
+    }
+
+    private final RangeFetcher fetcher;
+    private final ExecutorService executor;
+    private final long totalSize;
+    private final long rangeSize;
+    private final int window;
+    private final Semaphore budget;
+    // Each pending fetch holds one permit
+    private final Deque<Future<byte[]>> pending = new ArrayDeque<>();
+
+    private InputStream current;
+    // Whether current is a buffered range whose permit is still held
+    private boolean currentBuffered;
+    private long nextOffset;
+    private boolean closed;
+
+    ParallelRangeInputStream(InputStream firstRange, long firstRangeLength, long totalSize, long rangeSize,
+                             int window, RangeFetcher fetcher, ExecutorService executor, Semaphore budget) {
+        this.current = firstRange;
+        this.nextOffset = firstRangeLength;
+        this.totalSize = totalSize;
+        this.rangeSize = rangeSize;
+        this.window = window;
+        this.fetcher = fetcher;
+        this.executor = executor;
+        this.budget = budget;
+        schedule();
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        int n = read(single, 0, 1);
+        return n == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        while (current != null) {
+            int n = current.read(b, off, len);
+            if (n != -1) {
+                return n;
+            }
+            closeCurrent();
+            current = nextRange();
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pending.forEach(range -> range.cancel(true));
+        budget.release(pending.size());
+        pending.clear();
+        if (current != null) {
+            closeCurrent();
+        }
+    }
+
+    private InputStream nextRange() throws IOException {
+        Future<byte[]> next = pending.poll();
+        if (next == null) {
+            return nextOffset < totalSize ? openInline() : null;
+        }
+        schedule();
+        try {
+            InputStream range = new ByteArrayInputStream(next.get());
+            currentBuffered = true;
+            return range;
+        } catch (InterruptedException e) {
+            budget.release();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for range");
+        } catch (ExecutionException e) {
+            budget.release();
+            throw e.getCause() instanceof IOException io ? io : new IOException("Failed to fetch range", e.getCause());
+        }
+    }
+
+    // Only reached with nothing pending, i.e. when the budget was exhausted at scheduling time
+    private InputStream openInline() throws IOException {
+        long offset = nextOffset;
+        long length = Math.min(rangeSize, totalSize - offset);
+        InputStream range = fetcher.open(offset, length);
+        nextOffset += length;
+        schedule();
+        return range;
+    }
+
+    private void schedule() {
+        while (pending.size() < window && nextOffset < totalSize && budget.tryAcquire()) {
+            long offset = nextOffset;
+            long length = Math.min(rangeSize, totalSize - offset);
+            try {
+                pending.add(executor.submit(() -> fetcher.fetch(offset, length)));
+            } catch (RuntimeException e) {
+                budget.release();
+                throw e;
+            }
+            nextOffset += length;
+        }
+    }
+
+    private void closeCurrent() throws IOException {
+        try {
+            current.close();
+        } finally {
+            if (currentBuffered) {
+                currentBuffered = false;
+                budget.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.upskill.blob_storage_app.storage.s3;
+
+import com.upskill.blob_storage_app.exception.BlobStorageException;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Iterates a listing page by page, following continuation tokens. As soon as a page arrives the
+ * request for the next one is submitted, so it is usually ready by the time the caller has
+ * worked through the current page. Only the current page and the prefetched one are held.
+ */
+class S3KeyIterator implements Iterator<String>, AutoCloseable {
+
+    interface PageFetcher {
+        // continuationToken is null for the first page
+        ListObjectsV2Response fetch(String continuationToken);
+    }
+
+    private final PageFetcher fetcher;
+    private final ExecutorService executor;
+
+    private Iterator<String> current = Collections.emptyIterator();
+    private Future<ListObjectsV2Response> nextPage;
+
+    S3KeyIterator(PageFetcher fetcher, ExecutorService executor) {
+        this.fetcher = fetcher;
+        this.executor = executor;
+        this.nextPage = executor.submit(() -> fetcher.fetch(null));
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (nextPage == null) {
+                return false;
+            }
+            ListObjectsV2Response page = await(nextPage);
+            nextPage = Boolean.TRUE.equals(page.isTruncated())
+                    ? executor.submit(() -> fetcher.fetch(page.nextContinuationToken()))
+                    : null;
+            current = keys(page).iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public void close() {
+        if (nextPage != null) {
+            nextPage.cancel(true);
+            nextPage = null;
+        }
+        current = Collections.emptyIterator();
+    }
+
+    // Contents and common prefixes are each sorted; merge them to keep the listing in key order
+    static List<String> keys(ListObjectsV2Response page) {
+        List<String> objects = page.contents().stream().map(S3Object::key).toList();
+        List<String> prefixes = page.commonPrefixes().stream().map(CommonPrefix::prefix).toList();
+        if (prefixes.isEmpty()) {
+            return objects;
+        }
+        List<String> merged = new ArrayList<>(objects.size() + prefixes.size());
+        int o = 0;
+        int p = 0;
+        while (o < objects.size() || p < prefixes.size()) {
+            if (p == prefixes.size() || (o < objects.size() && objects.get(o).compareTo(prefixes.get(p)) < 0)) {
+                merged.add(objects.get(o++));
+            } else {
+                merged.add(prefixes.get(p++));
+            }
+        }
+        return merged;
+    }
+
+    private static ListObjectsV2Response await(Future<ListObjectsV2Response> page) {
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BlobStorageException("Interrupted while listing S3 objects", e);
+        } catch (ExecutionException e) {
+            throw new BlobStorageException("Failed to list files in S3", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.upskill.blob_storage_app.storage.s3;
+
+import com.upskill.blob_storage_app.exception.BlobStorageException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Uploads a stream as an S3 multipart upload. Parts are read sequentially from the stream and
+ * uploaded in parallel on the shared transfer executor; a semaphore caps the number of parts
+ * buffered or in flight, so heap use is bounded by {@code partSize * maxPartsInFlight}
+ * regardless of object size.
+ */
+@Component
+public class S3MultipartUploader {
+
+    private static final Logger log = LoggerFactory.getLogger(S3MultipartUploader.class);
+
+    private static final long MIN_PART_SIZE = DataSize.ofMegabytes(5).toBytes();
+    private static final long MAX_PART_SIZE = DataSize.ofGigabytes(5).toBytes();
+    private static final int MAX_PARTS = 10_000;
+
+    private final S3Client s3Client;
+    private final ExecutorService executor;
+
+    @Value("${aws.s3.bucket-name}")
+    private String bucketName;
+
+    @Value("${aws.s3.multipart.part-size:16MB}")
+    private DataSize partSize;
+
+    @Value("${aws.s3.multipart.max-parts-in-flight:8}")
+    private int maxPartsInFlight;
+
+    @Value("${aws.s3.multipart.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${aws.s3.multipart.abort-incomplete-after:PT24H}")
+    private Duration abortIncompleteAfter;
+
+    public S3MultipartUploader(S3Client s3Client, @Qualifier("s3TransferExecutor") ExecutorService executor) {
+        this.s3Client = s3Client;
+        this.executor = executor;
+    }
+
+    public void upload(String key, String contentType, InputStream content, long contentLength) {
+        int partBytes = (int) partSizeFor(contentLength);
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+        log.info("Started multipart upload: key={}, uploadId={}, partSize={}", key, uploadId, partBytes);
+
+        Semaphore permits = new Semaphore(maxPartsInFlight);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Future<CompletedPart>> parts = new ArrayList<>();
+        try {
+            int partNumber = 1;
+            while (failure.get() == null) {
+                permits.acquire();
+                byte[] part;
+                try {
+                    part = content.readNBytes(partBytes);
+                } catch (IOException e) {
+                    permits.release();
+                    throw e;
+                }
+                if (part.length == 0 && partNumber > 1) {
+                    permits.release();
+                    break;
+                }
+                if (partNumber > MAX_PARTS) {
+                    permits.release();
+                    throw new BlobStorageException("Upload exceeds " + MAX_PARTS + " parts of " + partBytes + " bytes");
+                }
+                int number = partNumber++;
+                parts.add(executor.submit(() -> {
+                    try {
+                        return uploadPart(key, uploadId, number, part);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                        throw e;
+                    } finally {
+                        permits.release();
+                    }
+                }));
+                if (part.length < partBytes) {
+                    break;
+                }
+            }
+
+            List<CompletedPart> completed = new ArrayList<>(parts.size());
+            for (Future<CompletedPart> part : parts) {
+                completed.add(part.get());
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+                    .build());
+            log.info("Completed multipart upload: key={}, parts={}", key, completed.size());
+        } catch (Exception e) {
+            parts.forEach(part -> part.cancel(true));
+            abort(key, uploadId);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            throw new BlobStorageException("Multipart upload failed for key " + key, cause);
+        }
+    }
+
+    // Staged uploads: the caller supplies the parts one request at a time, possibly from several nodes
+    public String begin(String key, String contentType) {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+        log.info("Started staged multipart upload: key={}, uploadId={}", key, uploadId);
+        return uploadId;
+    }
+
+    // The part is streamed straight from the caller, so a failure is reported rather than retried
+    public String uploadPart(String key, String uploadId, int partNumber, InputStream content, long contentLength) {
+        return s3Client.uploadPart(UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength(contentLength)
+                .build(), RequestBody.fromInputStream(content, contentLength)).eTag();
+    }
+
+    public void complete(String key, String uploadId, List<String> eTags) {
+        List<CompletedPart> parts = new ArrayList<>(eTags.size());
+        for (int i = 0; i < eTags.size(); i++) {
+            parts.add(CompletedPart.builder().partNumber(i + 1).eTag(eTags.get(i)).build());
+        }
+        s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build());
+        log.info("Completed staged multipart upload: key={}, parts={}", key, parts.size());
+    }
+
+    // Unlike abort, failures reach the caller so it can try again later
+    public void discard(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            log.info("Discarded staged multipart upload: key={}, uploadId={}", key, uploadId);
+        } catch (NoSuchUploadException e) {
+            log.debug("Staged multipart upload already gone: key={}, uploadId={}", key, uploadId);
+        }
+    }
+
+    // Aborts multipart uploads left behind by crashed nodes; S3 keeps billing for their parts otherwise.
+    @Scheduled(initialDelayString = "${aws.s3.multipart.cleanup-interval:PT1H}",
+            fixedDelayString = "${aws.s3.multipart.cleanup-interval:PT1H}")
+    public void abortIncompleteUploads() {
+        Instant cutoff = Instant.now().minus(abortIncompleteAfter);
+        try {
+            int aborted = 0;
+            for (MultipartUpload upload : s3Client.listMultipartUploadsPaginator(
+                    ListMultipartUploadsRequest.builder().bucket(bucketName).build()).uploads()) {
+                if (upload.initiated().isBefore(cutoff)) {
+                    abort(upload.key(), upload.uploadId());
+                    aborted++;
+                }
+            }
+            if (aborted > 0) {
+                log.info("Aborted {} incomplete multipart uploads older than {}", aborted, abortIncompleteAfter);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to clean up incomplete multipart uploads", e);
+        }
+    }
+
+    private CompletedPart uploadPart(String key, String uploadId, int partNumber, byte[] part) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) part.length)
+                .build();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                String eTag = s3Client.uploadPart(request, RequestBody.fromBytes(part)).eTag();
+                return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || Thread.currentThread().isInterrupted()) {
+                    log.error("Part {} of key {} failed after {} attempts", partNumber, key, attempt, e);
+                    throw e;
+                }
+                log.warn("Retrying part {} of key {} (attempt {} failed: {})", partNumber, key, attempt, e.getMessage());
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(200L << Math.min(attempt, 6));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BlobStorageException("Interrupted while retrying part upload", e);
+        }
+    }
+
+    private void abort(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            log.info("Aborted multipart upload: key={}, uploadId={}", key, uploadId);
+        } catch (Exception e) {
+            log.warn("Failed to abort multipart upload: key={}, uploadId={}", key, uploadId, e);
+        }
+    }
+
+    // Grows the part size when a known length would otherwise need more than 10,000 parts.
+    private long partSizeFor(long contentLength) {
+        long size = Math.max(partSize.toBytes(), MIN_PART_SIZE);
+        if (contentLength > 0) {
+            size = Math.max(size, (contentLength + MAX_PARTS - 1) / MAX_PARTS);
+        }
+        return Math.min(size, Math.min(MAX_PART_SIZE, Integer.MAX_VALUE - 8));
+    }
+}
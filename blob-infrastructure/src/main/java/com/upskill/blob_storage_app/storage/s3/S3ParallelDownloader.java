@@ -0,0 +1,142 @@
+package com.upskill.blob_storage_app.storage.s3;
+
+import com.upskill.blob_storage_app.port.output.BlobContent;
+import com.upskill.blob_storage_app.port.output.StreamBlobContent;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Downloads large objects as concurrent ranged GETs. The first range doubles as the size probe:
+ * objects that fit in it are served from that single request, larger ones are reassembled by a
+ * {@link ParallelRangeInputStream} whose concurrency grows with the object size up to a cap.
+ * Ranges fetched ahead are buffered on the heap, so all downloads share one budget of
+ * {@code max-buffered} bytes; past it, ranges are streamed one after the other instead.
+ */
+@Component
+public class S3ParallelDownloader {
+
+    private static final Logger log = LoggerFactory.getLogger(S3ParallelDownloader.class);
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+
+    private final S3Client s3Client;
+    private final ExecutorService executor;
+
+    @Value("${aws.s3.bucket-name}")
+    private String bucketName;
+
+    @Value("${aws.s3.download.range-size:8MB}")
+    private DataSize rangeSize;
+
+    @Value("${aws.s3.download.max-concurrency:8}")
+    private int maxConcurrency;
+
+    @Value("${aws.s3.download.max-buffered:128MB}")
+    private DataSize maxBuffered;
+
+    // One permit per buffered range, shared by every download in the process
+    private Semaphore budget;
+
+    public S3ParallelDownloader(S3Client s3Client, @Qualifier("s3TransferExecutor") ExecutorService executor) {
+        this.s3Client = s3Client;
+        this.executor = executor;
+    }
+
+    @PostConstruct
+    void init() {
+        long ranges = Math.max(1, maxBuffered.toBytes() / rangeSize.toBytes());
+        budget = new Semaphore((int) Math.min(Integer.MAX_VALUE, ranges));
+    }
+
+    public BlobContent download(String key) {
+        long range = rangeSize.toBytes();
+        ResponseInputStream<GetObjectResponse> first;
+        try {
+            first = s3Client.getObject(request(key, null, 0, range));
+        } catch (S3Exception e) {
+            if (e.statusCode() != RANGE_NOT_SATISFIABLE) {
+                throw e;
+            }
+            // Zero-length objects reject every range
+            ResponseInputStream<GetObjectResponse> whole = s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+            return new StreamBlobContent(whole, whole.response().contentLength());
+        }
+
+        GetObjectResponse response = first.response();
+        long firstLength = response.contentLength();
+        long totalSize = totalSize(response);
+        if (totalSize <= firstLength) {
+            return new StreamBlobContent(first, firstLength);
+        }
+
+        int concurrency = (int) Math.max(1, Math.min(maxConcurrency, (totalSize - firstLength + range - 1) / range));
+        log.info("Parallel S3 download: key={}, size={}, ranges of {} bytes, concurrency={}", key, totalSize, range, concurrency);
+        String eTag = response.eTag();
+        ParallelRangeInputStream stream = new ParallelRangeInputStream(first, firstLength, totalSize, range, concurrency,
+                new ParallelRangeInputStream.RangeFetcher() {
+                    @Override
+                    public byte[] fetch(long offset, long length) throws IOException {
+                        return S3ParallelDownloader.this.fetch(key, eTag, offset, length);
+                    }
+
+                    @Override
+                    public InputStream open(long offset, long length) throws IOException {
+                        return S3ParallelDownloader.this.open(key, eTag, offset, length);
+                    }
+                }, executor, budget);
+        return new StreamBlobContent(stream, totalSize);
+    }
+
+    // Pinned to the first response's ETag so an overwrite mid-download fails instead of mixing versions
+    private byte[] fetch(String key, String eTag, long offset, long length) throws IOException {
+        byte[] bytes = s3Client.getObjectAsBytes(request(key, eTag, offset, length)).asByteArrayUnsafe();
+        if (bytes.length != length) {
+            throw new IOException("Expected " + length + " bytes at offset " + offset + " of " + key + " but got " + bytes.length);
+        }
+        return bytes;
+    }
+
+    private InputStream open(String key, String eTag, long offset, long length) throws IOException {
+        ResponseInputStream<GetObjectResponse> range = s3Client.getObject(request(key, eTag, offset, length));
+        if (range.response().contentLength() != length) {
+            range.abort();
+            throw new IOException("Expected " + length + " bytes at offset " + offset + " of " + key
+                    + " but got " + range.response().contentLength());
+        }
+        return range;
+    }
+
+    private GetObjectRequest request(String key, String eTag, long offset, long length) {
+        return GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .ifMatch(eTag)
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .build();
+    }
+
+    private long totalSize(GetObjectResponse response) {
+        String contentRange = response.contentRange();
+        if (contentRange == null) {
+            return response.contentLength();
+        }
+        return Long.parseLong(contentRange.substring(contentRange.lastIndexOf('/') + 1));
+    }
+}
@@ -0,0 +1,76 @@
+package com.upskill.blob_storage_app.storage.s3;
+
+import com.upskill.blob_storage_app.exception.BlobStorageException;
+import com.upskill.blob_storage_app.port.output.ReactiveBlobStoragePort;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Streams content between the reactive edge and S3 through {@link S3AsyncClient}. Request
+ * bodies are handed to the SDK chunk by chunk as it asks for them, and object bodies are
+ * passed on as the client demands them, so neither direction buffers a whole object.
+ */
+public class S3ReactiveStorageAdapter implements ReactiveBlobStoragePort {
+    private static final Logger log = LoggerFactory.getLogger(S3ReactiveStorageAdapter.class);
+
+    private final S3AsyncClient s3AsyncClient;
+    private final String bucketName;
+
+    public S3ReactiveStorageAdapter(S3AsyncClient s3AsyncClient, String bucketName) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.bucketName = bucketName;
+    }
+
+    @Override
+    public Mono<String> upload(Flux<DataBuffer> content, long contentLength, String filename, String contentType, StorageProvider provider) {
+        // Same key layout as S3StorageAdapter, so both edges' objects are interchangeable
+        String key = String.format("%s/%s", UUID.randomUUID(), filename);
+        log.info("Streaming upload to S3: bucket={}, key={}, contentLength={}", bucketName, key, contentLength);
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+        AsyncRequestBody body = AsyncRequestBody.fromPublisher(content.map(S3ReactiveStorageAdapter::toByteBuffer));
+        return Mono.fromFuture(() -> s3AsyncClient.putObject(request, body))
+                .onErrorMap(e -> !(e instanceof BlobStorageException), e -> new BlobStorageException("Failed to upload file to S3", e))
+                .thenReturn(key);
+    }
+
+    @Override
+    public Flux<DataBuffer> download(String location, StorageProvider provider) {
+        log.info("Streaming from S3: bucket={}, key={}", bucketName, location);
+        GetObjectRequest request = GetObjectRequest.builder().bucket(bucketName).key(location).build();
+        return Mono.fromFuture(() -> s3AsyncClient.getObject(request, AsyncResponseTransformer.toPublisher()))
+                .flatMapMany(Flux::from)
+                .<DataBuffer>map(DefaultDataBufferFactory.sharedInstance::wrap)
+                .onErrorMap(e -> !(e instanceof BlobStorageException), e -> new BlobStorageException("Failed to download file from S3", e));
+    }
+
+    // The SDK may hold a chunk until it is written to the socket, after the edge has recycled a
+    // pooled buffer, so every chunk is copied out and the original released
+    private static ByteBuffer toByteBuffer(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return ByteBuffer.wrap(bytes);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package com.upskill.blob_storage_app.storage.s3;
 
+import com.upskill.blob_storage_app.port.output.BlobContent;
 import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.port.output.StagedUpload;
+import com.upskill.blob_storage_app.port.output.StoredObject;
+import com.upskill.blob_storage_app.port.output.StreamBlobContent;
 import com.upskill.blob_storage_app.valueobject.StorageProvider;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -14,29 +21,63 @@ import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
 import com.upskill.blob_storage_app.exception.BlobStorageException;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Component
-@RequiredArgsConstructor
 public class S3StorageAdapter implements BlobStoragePort {
 
     private static final Logger log = LoggerFactory.getLogger(S3StorageAdapter.class);
+    private static final int DELETE_OBJECTS_LIMIT = 1000;
 
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final S3MultipartUploader multipartUploader;
+    private final S3ParallelDownloader parallelDownloader;
+    private final ExecutorService transferExecutor;
 
     @Value("${aws.s3.bucket-name}")
     private String bucketName;
 
+    @Value("${aws.s3.multipart.threshold:64MB}")
+    private DataSize multipartThreshold;
+
+    @Value("${aws.s3.download.parallel:true}")
+    private boolean parallelDownloads;
+
+    public S3StorageAdapter(S3Client s3Client, S3Presigner s3Presigner, S3MultipartUploader multipartUploader,
+                            S3ParallelDownloader parallelDownloader,
+                            @Qualifier("s3TransferExecutor") ExecutorService transferExecutor) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.multipartUploader = multipartUploader;
+        this.parallelDownloader = parallelDownloader;
+        this.transferExecutor = transferExecutor;
+    }
+
     @Override
-    public String upload(byte[] content, String filename, String contentType, StorageProvider provider) {
+    public String upload(InputStream content, long contentLength, String filename, String contentType, StorageProvider provider) {
         String key = generateKey(filename);
+        uploadTo(key, content, contentLength, contentType, provider);
+        return key;
+    }
+
+    @Override
+    public void uploadTo(String key, InputStream content, long contentLength, String contentType, StorageProvider provider) {
         log.info("Uploading to S3: bucket={}, key={}, contentType={}", bucketName, key, contentType);
         try {
             PutObjectRequest putRequest = PutObjectRequest.builder()
@@ -44,9 +85,12 @@ public class S3StorageAdapter implements BlobStoragePort {
                     .key(key)
                     .contentType(contentType)
                     .build();
-            s3Client.putObject(putRequest, RequestBody.fromBytes(content));
+            if (contentLength >= 0 && contentLength <= multipartThreshold.toBytes()) {
+                s3Client.putObject(putRequest, RequestBody.fromInputStream(content, contentLength));
+            } else {
+                multipartUploader.upload(key, contentType, content, contentLength);
+            }
             log.info("Upload to S3 complete: key={}", key);
-            return key;
         } catch (Exception e) {
             log.error("Failed to upload to S3: key={}", key, e);
             throw new BlobStorageException("Failed to upload file to S3", e);
@@ -54,22 +98,41 @@ public class S3StorageAdapter implements BlobStoragePort {
     }
 
     @Override
-    public byte[] download(String location, StorageProvider provider) {
+    public BlobContent download(String location, StorageProvider provider) {
         log.info("Downloading from S3: bucket={}, key={}", bucketName, location);
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+        try {
+            if (parallelDownloads) {
+                return parallelDownloader.download(location);
+            }
             GetObjectRequest getRequest = GetObjectRequest.builder()
                     .bucket(bucketName)
                     .key(location)
                     .build();
-            s3Client.getObject(getRequest).transferTo(baos);
-            log.info("Download from S3 complete: key={}", location);
-            return baos.toByteArray();
+            ResponseInputStream<GetObjectResponse> object = s3Client.getObject(getRequest);
+            return new StreamBlobContent(object, object.response().contentLength());
         } catch (Exception e) {
             log.error("Failed to download from S3: key={}", location, e);
             throw new BlobStorageException("Failed to download file from S3", e);
         }
     }
 
+    @Override
+    public BlobContent download(String location, long offset, long length, StorageProvider provider) {
+        log.info("Downloading range from S3: bucket={}, key={}, offset={}, length={}", bucketName, location, offset, length);
+        try {
+            GetObjectRequest getRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(location)
+                    .range("bytes=" + offset + "-" + (offset + length - 1))
+                    .build();
+            ResponseInputStream<GetObjectResponse> object = s3Client.getObject(getRequest);
+            return new StreamBlobContent(object, object.response().contentLength());
+        } catch (Exception e) {
+            log.error("Failed to download range from S3: key={}", location, e);
+            throw new BlobStorageException("Failed to download file from S3", e);
+        }
+    }
+
     @Override
     public void delete(String location, StorageProvider provider) {
         log.info("Deleting from S3: bucket={}, key={}", bucketName, location);
@@ -86,24 +149,62 @@ public class S3StorageAdapter implements BlobStoragePort {
         }
     }
 
+    // DeleteObjects takes at most 1000 keys; chunks are sent concurrently and run in quiet mode,
+    // so responses only list the keys that failed
     @Override
-    public List<String> list(String prefix, StorageProvider provider) {
-        log.info("Listing S3 objects: bucket={}, prefix={}", bucketName, prefix);
-        try {
-            ListObjectsV2Request request = ListObjectsV2Request.builder()
-                    .bucket(bucketName)
-                    .prefix(prefix)
-                    .build();
-            ListObjectsV2Response response = s3Client.listObjectsV2(request);
-            List<String> keys = response.contents().stream()
-                    .map(S3Object::key)
-                    .collect(Collectors.toList());
-            log.info("S3 list complete: found {} objects", keys.size());
-            return keys;
-        } catch (Exception e) {
-            log.error("Failed to list S3 objects: prefix={}", prefix, e);
-            throw new BlobStorageException("Failed to list files in S3", e);
+    public Map<String, String> deleteAll(List<String> locations, StorageProvider provider) {
+        log.info("Bulk deleting {} objects from S3: bucket={}", locations.size(), bucketName);
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < locations.size(); i += DELETE_OBJECTS_LIMIT) {
+            chunks.add(locations.subList(i, Math.min(locations.size(), i + DELETE_OBJECTS_LIMIT)));
+        }
+        List<Future<Map<String, String>>> requests = chunks.stream()
+                .map(chunk -> transferExecutor.submit(() -> deleteChunk(chunk)))
+                .toList();
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                failures.putAll(requests.get(i).get());
+            } catch (ExecutionException e) {
+                log.error("S3 DeleteObjects request failed for {} keys", chunks.get(i).size(), e.getCause());
+                chunks.get(i).forEach(key -> failures.put(key, e.getCause().getMessage()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                requests.forEach(request -> request.cancel(true));
+                throw new BlobStorageException("Interrupted while deleting from S3", e);
+            }
+        }
+        log.info("Bulk delete from S3 complete: {} deleted, {} failed", locations.size() - failures.size(), failures.size());
+        return failures;
+    }
+
+    private Map<String, String> deleteChunk(List<String> keys) {
+        DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(Delete.builder()
+                        .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                        .quiet(true)
+                        .build())
+                .build());
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (S3Error error : response.errors()) {
+            failures.put(error.key(), error.code() + ": " + error.message());
         }
+        return failures;
+    }
+
+    @Override
+    public Stream<String> streamKeys(String prefix, String delimiter, StorageProvider provider) {
+        log.info("Listing S3 objects: bucket={}, prefix={}, delimiter={}", bucketName, prefix, delimiter);
+        S3KeyIterator keys = new S3KeyIterator(token -> s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .delimiter(delimiter)
+                .continuationToken(token)
+                .build()), transferExecutor);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(keys,
+                        Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false)
+                .onClose(keys::close);
     }
 
     @Override
@@ -128,6 +229,97 @@ public class S3StorageAdapter implements BlobStoragePort {
         }
     }
 
+    // Response overrides make S3 answer with the blob's metadata rather than the object's
+    @Override
+    public String presignDownload(StoredObject object, Duration expiry, StorageProvider provider) {
+        try {
+            GetObjectRequest.Builder getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(object.location())
+                    .responseContentType(object.contentType())
+                    .responseContentDisposition(ContentDisposition.attachment()
+                            .filename(object.filename())
+                            .build()
+                            .toString());
+            if (object.compressionCodec().getContentEncoding() != null) {
+                getObjectRequest.responseContentEncoding(object.compressionCodec().getContentEncoding());
+            }
+            return s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                            .signatureDuration(expiry)
+                            .getObjectRequest(getObjectRequest.build())
+                            .build())
+                    .url()
+                    .toString();
+        } catch (Exception e) {
+            log.error("Failed to presign S3 download: key={}", object.location(), e);
+            throw new BlobStorageException("Failed to generate presigned URL for S3", e);
+        }
+    }
+
+    // Content-Length is part of the signature, so S3 rejects a part of any other size
+    @Override
+    public String presignPart(StagedUpload upload, int partNumber, long contentLength, Duration expiry, StorageProvider provider) {
+        try {
+            return s3Presigner.presignUploadPart(UploadPartPresignRequest.builder()
+                            .signatureDuration(expiry)
+                            .uploadPartRequest(UploadPartRequest.builder()
+                                    .bucket(bucketName)
+                                    .key(upload.location())
+                                    .uploadId(upload.stagingId())
+                                    .partNumber(partNumber)
+                                    .contentLength(contentLength)
+                                    .build())
+                            .build())
+                    .url()
+                    .toString();
+        } catch (Exception e) {
+            log.error("Failed to presign part {} of S3 upload: key={}", partNumber, upload.location(), e);
+            throw new BlobStorageException("Failed to generate presigned part URL for S3", e);
+        }
+    }
+
+    @Override
+    public StagedUpload beginStaged(String filename, String contentType, StorageProvider provider) {
+        String key = generateKey(filename);
+        try {
+            return new StagedUpload(key, multipartUploader.begin(key, contentType));
+        } catch (Exception e) {
+            log.error("Failed to start staged upload to S3: key={}", key, e);
+            throw new BlobStorageException("Failed to start staged upload to S3", e);
+        }
+    }
+
+    @Override
+    public String uploadPart(StagedUpload upload, int partNumber, InputStream content, long contentLength, StorageProvider provider) {
+        log.info("Uploading part {} to S3: key={}, contentLength={}", partNumber, upload.location(), contentLength);
+        try {
+            return multipartUploader.uploadPart(upload.location(), upload.stagingId(), partNumber, content, contentLength);
+        } catch (Exception e) {
+            log.error("Failed to upload part {} to S3: key={}", partNumber, upload.location(), e);
+            throw new BlobStorageException("Failed to upload part " + partNumber + " to S3", e);
+        }
+    }
+
+    @Override
+    public void completeStaged(StagedUpload upload, List<String> partTags, StorageProvider provider) {
+        try {
+            multipartUploader.complete(upload.location(), upload.stagingId(), partTags);
+        } catch (Exception e) {
+            log.error("Failed to complete staged upload to S3: key={}", upload.location(), e);
+            throw new BlobStorageException("Failed to complete staged upload to S3", e);
+        }
+    }
+
+    @Override
+    public void abortStaged(StagedUpload upload, StorageProvider provider) {
+        try {
+            multipartUploader.discard(upload.location(), upload.stagingId());
+        } catch (Exception e) {
+            log.error("Failed to abort staged upload to S3: key={}", upload.location(), e);
+            throw new BlobStorageException("Failed to abort staged upload to S3", e);
+        }
+    }
+
     private String generateKey(String filename) {
         return String.format("%s/%s", java.util.UUID.randomUUID(), filename);
     }
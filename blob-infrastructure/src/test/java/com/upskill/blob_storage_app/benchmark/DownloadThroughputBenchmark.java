@@ -0,0 +1,144 @@
+package com.upskill.blob_storage_app.benchmark;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives concurrent downloads of one blob against a running instance and reports throughput
+ * and latency per concurrency level. Depends on the JDK only, so it runs as a single source file:
+ *
+ * <pre>
+ * java blob-infrastructure/src/test/java/com/upskill/blob_storage_app/benchmark/DownloadThroughputBenchmark.java \
+ *   --url http://localhost:8080 --api-key $KEY --blob $BLOB_ID --provider S3 --concurrency 1000,10000 --duration PT30S
+ * </pre>
+ *
+ * Run it once against the app started with {@code spring.threads.virtual.enabled=false} and once
+ * with {@code true}. Every simulated client holds its own connection, so raise the open-file
+ * limit on both sides ({@code ulimit -n}) before going to 10k.
+ */
+public class DownloadThroughputBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        URI uri = URI.create(options.getOrDefault("url", "http://localhost:8080") + "/api/v1/blobs/" + required(options, "blob"));
+        String apiKey = required(options, "api-key");
+        String provider = options.getOrDefault("provider", "S3");
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT30S"));
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT5S"));
+        int[] levels = Arrays.stream(options.getOrDefault("concurrency", "1000,10000").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        System.out.printf("%-12s %12s %12s %10s %10s %10s%n", "concurrency", "requests/s", "MiB/s", "p50 ms", "p99 ms", "errors");
+        for (int concurrency : levels) {
+            run(uri, apiKey, provider, concurrency, warmup);
+            Result result = run(uri, apiKey, provider, concurrency, duration);
+            System.out.printf("%-12d %12.1f %12.1f %10.1f %10.1f %10d%n", concurrency,
+                    result.requests / seconds(duration), result.bytes / seconds(duration) / (1024 * 1024),
+                    result.percentile(0.50), result.percentile(0.99), result.errors);
+        }
+    }
+
+    private static Result run(URI uri, String apiKey, String provider, int concurrency, Duration duration) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("X-API-Key", apiKey)
+                .header("X-Storage-Provider", provider)
+                .GET()
+                .build();
+        AtomicLong requests = new AtomicLong();
+        AtomicLong bytes = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        ConcurrentLinkedQueue<long[]> latencies = new ConcurrentLinkedQueue<>();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.execute(() -> {
+                    List<Long> own = new ArrayList<>();
+                    byte[] buffer = new byte[64 * 1024];
+                    try {
+                        while (System.nanoTime() < deadline) {
+                            long start = System.nanoTime();
+                            try {
+                                HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                                long read = 0;
+                                try (InputStream body = response.body()) {
+                                    for (int n; (n = body.read(buffer)) != -1; ) {
+                                        read += n;
+                                    }
+                                }
+                                if (response.statusCode() != 200) {
+                                    errors.incrementAndGet();
+                                    continue;
+                                }
+                                requests.incrementAndGet();
+                                bytes.addAndGet(read);
+                                own.add(System.nanoTime() - start);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                return;
+                            } catch (Exception e) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    } finally {
+                        latencies.add(own.stream().mapToLong(Long::longValue).toArray());
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        }
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(requests.get(), bytes.get(), errors.get(), all);
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing --" + name);
+        }
+        return value;
+    }
+
+    private record Result(long requests, long bytes, long errors, long[] sortedLatencyNanos) {
+        double percentile(double p) {
+            if (sortedLatencyNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sortedLatencyNanos.length - 1, Math.ceil(p * sortedLatencyNanos.length) - 1);
+            return sortedLatencyNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
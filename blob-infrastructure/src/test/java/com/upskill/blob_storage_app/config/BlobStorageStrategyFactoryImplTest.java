@@ -0,0 +1,86 @@
+package com.upskill.blob_storage_app.config;
+
+import com.upskill.blob_storage_app.controller.BlobContentWriter;
+import com.upskill.blob_storage_app.dto.BlobDownload;
+import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.storage.local.LocalStorageAdapter;
+import com.upskill.blob_storage_app.storage.local.LocalUrlSigner;
+import com.upskill.blob_storage_app.storage.s3.S3StorageAdapter;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BlobStorageStrategyFactoryImplTest {
+
+    private static final int SIZE = 64 * 1024;
+
+    @TempDir
+    Path basePath;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private BlobStorageStrategyFactoryImpl factory;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        LocalStorageAdapter local = new LocalStorageAdapter(executor, new LocalUrlSigner("secret", "http://localhost:8080", ""));
+        ReflectionTestUtils.setField(local, "basePath", basePath.toString());
+        factory = new BlobStorageStrategyFactoryImpl(mock(S3StorageAdapter.class), local,
+                mock(ObjectProvider.class, invocation -> null), registry);
+        factory.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldKeepSendfileForLocalDownloadsThroughTheMeteredPort() throws Exception {
+        // given
+        BlobStoragePort storage = factory.getStrategy(StorageProvider.LOCAL);
+        String location = storage.upload(new ByteArrayInputStream(new byte[SIZE]), SIZE, "large.bin",
+                "application/octet-stream", StorageProvider.LOCAL);
+        BlobDownload download = BlobDownload.builder()
+                .blobId("blob-1")
+                .filename("large.bin")
+                .contentType("application/octet-stream")
+                .size(SIZE)
+                .storedSize(SIZE)
+                .lastModified(Instant.now())
+                .storage(storage)
+                .storageLocation(location)
+                .storageProvider(StorageProvider.LOCAL)
+                .build();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/blobs/blob-1");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        new BlobContentWriter().write(download, request, response);
+
+        // then
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename"))
+                .isEqualTo(basePath.resolve(location).toAbsolutePath().toString());
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(registry.get("blob.storage.bytes.read")
+                .tags("provider", "LOCAL", "operation", "download").counter().count()).isEqualTo(SIZE);
+    }
+}
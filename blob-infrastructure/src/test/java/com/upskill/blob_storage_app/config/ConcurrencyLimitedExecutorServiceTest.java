@@ -0,0 +1,40 @@
+package com.upskill.blob_storage_app.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitedExecutorServiceTest {
+
+    @Test
+    void shouldRunVirtualThreadTasksUpToTheLimitAtOnce() throws Exception {
+        // given
+        ExecutorService executor = ExecutorConfig.boundedExecutor("test-", 4, true);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        // when
+        List<Future<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(executor.submit(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(5);
+                running.decrementAndGet();
+                return Thread.currentThread().isVirtual();
+            }));
+        }
+
+        // then
+        for (Future<Boolean> task : tasks) {
+            assertThat(task.get()).isTrue();
+        }
+        assertThat(peak.get()).isEqualTo(4);
+        executor.shutdown();
+    }
+}
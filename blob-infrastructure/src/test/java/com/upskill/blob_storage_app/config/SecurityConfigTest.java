@@ -0,0 +1,86 @@
+package com.upskill.blob_storage_app.config;
+
+import com.upskill.blob_storage_app.security.ApiKeyAuthenticationCache;
+import com.upskill.blob_storage_app.security.ApiKeyAuthenticationFilter;
+import com.upskill.blob_storage_app.security.ApiKeyUsageTracker;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// A bare web context rather than a Boot slice, which would pull in the application's JPA setup
+@SpringJUnitWebConfig(SecurityConfigTest.Web.class)
+class SecurityConfigTest {
+
+    @EnableWebMvc
+    @EnableWebSecurity
+    @Import({SecurityConfig.class, ApiKeyAuthenticationFilter.class, PrincipalController.class})
+    static class Web {
+    }
+
+    @RestController
+    static class PrincipalController {
+        @GetMapping("/api/v1/whoami")
+        String whoami(@AuthenticationPrincipal UUID userId) {
+            return String.valueOf(userId);
+        }
+    }
+
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ApiKeyAuthenticationCache apiKeyAuthenticationCache;
+
+    @MockitoBean
+    private ApiKeyUsageTracker apiKeyUsageTracker;
+
+    @BeforeEach
+    void setUp(WebApplicationContext context, @Autowired @Qualifier("springSecurityFilterChain") Filter securityFilterChain) {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(securityFilterChain).build();
+    }
+
+    @Test
+    void shouldPassTheKeyOwnerAsPrincipal() throws Exception {
+        // given
+        UUID userId = UUID.randomUUID();
+        when(apiKeyAuthenticationCache.authenticate("valid-key"))
+                .thenReturn(Optional.of(new ApiKeyAuthenticationCache.CachedApiKey(UUID.randomUUID(), userId, true, null)));
+
+        // when / then
+        mockMvc.perform(get("/api/v1/whoami").header("X-API-Key", "valid-key"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(userId.toString()));
+    }
+
+    @Test
+    void shouldRejectRequestsWithoutAValidKey() throws Exception {
+        // given
+        when(apiKeyAuthenticationCache.authenticate("unknown-key")).thenReturn(Optional.empty());
+
+        // when / then
+        mockMvc.perform(get("/api/v1/whoami").header("X-API-Key", "unknown-key"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/whoami"))
+                .andExpect(status().isUnauthorized());
+    }
+}
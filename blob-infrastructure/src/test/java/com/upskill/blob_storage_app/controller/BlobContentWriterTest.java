@@ -0,0 +1,227 @@
+package com.upskill.blob_storage_app.controller;
+
+import com.upskill.blob_storage_app.dto.BlobDownload;
+import com.upskill.blob_storage_app.port.output.BlobContent;
+import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.port.output.StreamBlobContent;
+import com.upskill.blob_storage_app.valueobject.CompressionCodec;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlobContentWriterTest {
+
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+    private static final Instant LAST_MODIFIED = Instant.parse("2025-01-01T10:00:00Z");
+    private static final String HASH = "9a0c1e0d6c4d6e1c6f2b1f0c4bd2a6d3f1a0e9b8c7d6e5f4a3b2c1d0e9f8a7b6";
+
+    private final BlobContentWriter writer = new BlobContentWriter();
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest("GET", "/api/v1/blobs/blob-1");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void shouldWriteWholeBlobWithoutRange() throws Exception {
+        // when
+        writer.write(download(), request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void shouldWriteSingleRangeAsPartialContent() throws Exception {
+        // given
+        request.addHeader("Range", "bytes=5-9");
+
+        // when
+        writer.write(download(), request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 5-9/20");
+        assertThat(response.getContentAsString()).isEqualTo("56789");
+    }
+
+    @Test
+    void shouldWriteMultipleRangesAsMultipartByteranges() throws Exception {
+        // given
+        request.addHeader("Range", "bytes=0-1,-3");
+
+        // when
+        writer.write(download(), request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+        assertThat(response.getContentAsString())
+                .contains("Content-Range: bytes 0-1/20\r\n\r\n01")
+                .contains("Content-Range: bytes 17-19/20\r\n\r\nhij");
+    }
+
+    @Test
+    void shouldRejectRangeBeyondEnd() throws Exception {
+        // given
+        request.addHeader("Range", "bytes=50-60");
+
+        // when
+        writer.write(download(), request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */20");
+    }
+
+    @Test
+    void shouldIgnoreRangeWhenIfRangeIsStale() throws Exception {
+        // given
+        request.addHeader("Range", "bytes=5-9");
+        request.addHeader("If-Range", "Wed, 01 Jan 2020 00:00:00 GMT");
+
+        // when
+        writer.write(download(), request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhileETagStillMatches() throws Exception {
+        // given
+        request.addHeader("If-None-Match", "\"other\", \"" + HASH + "\"");
+        MockHttpServletRequest rangeRequest = new MockHttpServletRequest("GET", "/api/v1/blobs/blob-1");
+        MockHttpServletResponse rangeResponse = new MockHttpServletResponse();
+        rangeRequest.addHeader("Range", "bytes=5-9");
+        rangeRequest.addHeader("If-Range", "\"" + HASH + "\"");
+
+        // when
+        writer.write(download(), request, response);
+        writer.write(download(), rangeRequest, rangeResponse);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader("ETag")).isEqualTo("\"" + HASH + "\"");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(rangeResponse.getStatus()).isEqualTo(206);
+        assertThat(rangeResponse.getContentAsString()).isEqualTo("56789");
+    }
+
+    @Test
+    void shouldSendStoredEncodingOnlyToClientsThatAcceptIt() throws Exception {
+        // given
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+            out.write(CONTENT);
+        }
+        MockHttpServletRequest identityRequest = new MockHttpServletRequest("GET", "/api/v1/blobs/blob-1");
+        MockHttpServletResponse identityResponse = new MockHttpServletResponse();
+        identityRequest.addHeader("Accept-Encoding", "br, gzip;q=0");
+        request.addHeader("Accept-Encoding", "br, gzip;q=0.8");
+
+        // when
+        writer.write(compressedDownload(gzipped.toByteArray()), request, response);
+        writer.write(compressedDownload(gzipped.toByteArray()), identityRequest, identityResponse);
+
+        // then
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getContentAsByteArray()).isEqualTo(gzipped.toByteArray());
+        assertThat(identityResponse.getHeader("Content-Encoding")).isNull();
+        assertThat(identityResponse.getContentLengthLong()).isEqualTo(CONTENT.length);
+        assertThat(identityResponse.getContentAsByteArray()).isEqualTo(CONTENT);
+    }
+
+    private BlobDownload download() {
+        return BlobDownload.builder()
+                .blobId("blob-1")
+                .filename("blob.txt")
+                .contentType("text/plain")
+                .size(CONTENT.length)
+                .lastModified(LAST_MODIFIED)
+                .contentHash(HASH)
+                .storage(new InMemoryStoragePort(CONTENT))
+                .storageLocation("blob-1")
+                .storageProvider(StorageProvider.LOCAL)
+                .build();
+    }
+
+    private BlobDownload compressedDownload(byte[] stored) {
+        return BlobDownload.builder()
+                .blobId("blob-1")
+                .filename("blob.txt")
+                .contentType("text/plain")
+                .size(CONTENT.length)
+                .lastModified(LAST_MODIFIED)
+                .compressionCodec(CompressionCodec.GZIP)
+                .storedSize(stored.length)
+                .storage(new InMemoryStoragePort(stored))
+                .storageLocation("blob-1")
+                .storageProvider(StorageProvider.LOCAL)
+                .build();
+    }
+
+    private static class InMemoryStoragePort implements BlobStoragePort {
+        private final byte[] content;
+
+        InMemoryStoragePort(byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public String upload(InputStream content, long contentLength, String filename, String contentType, StorageProvider provider) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void uploadTo(String location, InputStream content, long contentLength, String contentType, StorageProvider provider) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BlobContent download(String location, StorageProvider provider) {
+            return new StreamBlobContent(new ByteArrayInputStream(content), content.length);
+        }
+
+        @Override
+        public BlobContent download(String location, long offset, long length, StorageProvider provider) {
+            byte[] slice = Arrays.copyOfRange(content, (int) offset, (int) (offset + length));
+            return new StreamBlobContent(new ByteArrayInputStream(slice), slice.length);
+        }
+
+        @Override
+        public void delete(String location, StorageProvider provider) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Stream<String> streamKeys(String prefix, String delimiter, StorageProvider provider) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String generatePresignedUrl(String location, StorageProvider provider, long expirationMinutes) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.upskill.blob_storage_app.controller;
+
+import com.upskill.blob_storage_app.port.output.StagedUpload;
+import com.upskill.blob_storage_app.storage.local.LocalStorageAdapter;
+import com.upskill.blob_storage_app.storage.local.LocalUrlSigner;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class LocalSignedUrlControllerTest {
+
+    private static final String CONTEXT_PATH = "/api/v1";
+
+    @TempDir
+    Path basePath;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private LocalStorageAdapter adapter;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new LocalStorageAdapter(executor, new LocalUrlSigner("secret", "http://localhost:8080/", CONTEXT_PATH));
+        ReflectionTestUtils.setField(adapter, "basePath", basePath.toString());
+        mockMvc = MockMvcBuilders.standaloneSetup(new LocalSignedUrlController(adapter, new BlobContentWriter())).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldRouteSignedUrlsThroughTheServletContextPath() throws Exception {
+        // given
+        byte[] chunk = "hello".getBytes(StandardCharsets.US_ASCII);
+        StagedUpload staged = adapter.beginStaged("greeting.txt", "text/plain", StorageProvider.LOCAL);
+        URI url = URI.create(adapter.presignPart(staged, 1, chunk.length, Duration.ofMinutes(5), StorageProvider.LOCAL));
+
+        // when / then
+        assertThat(url.getPath()).isEqualTo(CONTEXT_PATH + LocalUrlSigner.PATH);
+        mockMvc.perform(put(url).contextPath(CONTEXT_PATH).content(chunk))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"));
+    }
+}
@@ -0,0 +1,120 @@
+package com.upskill.blob_storage_app.controller;
+
+import com.upskill.blob_storage_app.dto.BlobDownload;
+import com.upskill.blob_storage_app.port.input.BlobUseCase;
+import com.upskill.blob_storage_app.security.ApiKeyAuthenticationCache;
+import com.upskill.blob_storage_app.storage.local.LocalReactiveStorageAdapter;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveBlobHandlerTest {
+
+    private static final byte[] CONTENT = "streamed through the reactive edge".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path basePath;
+
+    private final BlobUseCase blobUseCase = mock(BlobUseCase.class);
+    private final ApiKeyAuthenticationCache authenticationCache = mock(ApiKeyAuthenticationCache.class);
+    private final UUID userId = UUID.randomUUID();
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        LocalReactiveStorageAdapter storage = new LocalReactiveStorageAdapter(basePath.toString());
+        ReactiveBlobHandler handler = new ReactiveBlobHandler(blobUseCase, authenticationCache, provider -> storage, 1024);
+        client = WebTestClient.bindToRouterFunction(handler.routes()).build();
+        when(authenticationCache.authenticate("key")).thenReturn(Optional.of(
+                new ApiKeyAuthenticationCache.CachedApiKey(UUID.randomUUID(), userId, true, null)));
+    }
+
+    @Test
+    void shouldStreamUploadToStorageAndRegisterItWithItsHash() throws Exception {
+        // given
+        when(blobUseCase.registerBlob(eq(userId), eq("notes.txt"), anyString(), eq((long) CONTENT.length),
+                eq(StorageProvider.LOCAL), anyString(), anyString())).thenReturn("blob-1");
+
+        // when / then
+        client.post().uri("/api/v1/blobs?filename=notes.txt")
+                .header("X-API-Key", "key")
+                .header("X-Storage-Provider", "local")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .bodyValue(CONTENT)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("blob-1");
+
+        ArgumentCaptor<String> location = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        verify(blobUseCase).registerBlob(eq(userId), eq("notes.txt"), anyString(), eq((long) CONTENT.length),
+                eq(StorageProvider.LOCAL), location.capture(), hash.capture());
+        assertThat(Files.readAllBytes(basePath.resolve(location.getValue()))).isEqualTo(CONTENT);
+        assertThat(hash.getValue()).isEqualTo(HexFormat.of().formatHex(
+                java.security.MessageDigest.getInstance("SHA-256").digest(CONTENT)));
+    }
+
+    @Test
+    void shouldStreamDownloadFromStorage() throws Exception {
+        // given
+        Path file = basePath.resolve("ab/cd/blob-1/notes.txt");
+        Files.createDirectories(file.getParent());
+        Files.write(file, CONTENT);
+        when(blobUseCase.downloadBlob(userId, "blob-1", StorageProvider.LOCAL)).thenReturn(BlobDownload.builder()
+                .blobId("blob-1")
+                .filename("notes.txt")
+                .contentType("text/plain")
+                .size(CONTENT.length)
+                .lastModified(Instant.parse("2025-01-01T10:00:00Z"))
+                .storageLocation("ab/cd/blob-1/notes.txt")
+                .storageProvider(StorageProvider.LOCAL)
+                .build());
+
+        // when / then
+        client.get().uri("/api/v1/blobs/blob-1")
+                .header("X-API-Key", "key")
+                .header("X-Storage-Provider", "LOCAL")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentLength(CONTENT.length)
+                .expectBody(byte[].class).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void shouldRejectUnknownApiKeyAndOversizedUploads() {
+        // given
+        when(authenticationCache.authenticate("unknown")).thenReturn(Optional.empty());
+
+        // when / then
+        client.get().uri("/api/v1/blobs/blob-1")
+                .header("X-API-Key", "unknown")
+                .header("X-Storage-Provider", "LOCAL")
+                .exchange()
+                .expectStatus().isUnauthorized();
+        client.post().uri("/api/v1/blobs?filename=big.bin")
+                .header("X-API-Key", "key")
+                .header("X-Storage-Provider", "LOCAL")
+                .bodyValue(new byte[2048])
+                .exchange()
+                .expectStatus().isEqualTo(413);
+    }
+}
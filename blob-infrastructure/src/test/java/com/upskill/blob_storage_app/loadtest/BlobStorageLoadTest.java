@@ -0,0 +1,172 @@
+package com.upskill.blob_storage_app.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.upskill.blob_storage_app.entity.ApiKey;
+import com.upskill.blob_storage_app.entity.User;
+import com.upskill.blob_storage_app.repository.ApiKeyRepository;
+import com.upskill.blob_storage_app.repository.UserRepository;
+import com.upskill.blob_storage_app.security.ApiKeyAuthenticationCache;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the whole application on a random port against {@link FakeS3Server} and the in-memory
+ * H2 database, then runs a {@link LoadGenerator} workload over HTTP and prints throughput and
+ * latency percentiles per operation. Skipped unless {@code -Dloadtest=true}; see the README for
+ * the knobs. Client, server and storage share one machine, so compare runs with each other
+ * rather than with production.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "aws.region=us-east-1",
+        "aws.access-key-id=load-test",
+        "aws.secret-access-key=load-test",
+        "aws.s3.bucket-name=load-test",
+        // blob ids embed a column named value, a keyword to H2 unless told otherwise
+        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;NON_KEYWORDS=VALUE",
+        "spring.servlet.multipart.max-file-size=1GB",
+        "spring.servlet.multipart.max-request-size=1GB",
+        "logging.level.com.upskill.blob_storage_app=WARN"
+})
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class BlobStorageLoadTest {
+
+    private static final FakeS3Server S3 = startS3();
+    private static final StaticCredentialsProvider CREDENTIALS =
+            StaticCredentialsProvider.create(AwsBasicCredentials.create("load-test", "load-test"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @DynamicPropertySource
+    static void storage(DynamicPropertyRegistry registry) throws IOException {
+        registry.add("storage.local.base-path", Files.createTempDirectory("blob-load-test")::toString);
+    }
+
+    // Takes precedence over S3Config's clients, which only know how to reach AWS
+    @TestConfiguration
+    static class FakeS3Clients {
+
+        @Bean
+        @Primary
+        S3Client fakeS3Client() {
+            return S3Client.builder()
+                    .region(Region.US_EAST_1)
+                    .credentialsProvider(CREDENTIALS)
+                    .endpointOverride(URI.create(S3.endpoint()))
+                    .forcePathStyle(true)
+                    .build();
+        }
+
+        @Bean
+        @Primary
+        S3Presigner fakeS3Presigner() {
+            return S3Presigner.builder()
+                    .region(Region.US_EAST_1)
+                    .credentialsProvider(CREDENTIALS)
+                    .endpointOverride(URI.create(S3.endpoint()))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                    .build();
+        }
+    }
+
+    @AfterAll
+    static void stopS3() {
+        S3.close();
+    }
+
+    @Test
+    void shouldReportThroughputAndLatencyPerOperation() throws Exception {
+        // given
+        LoadGenerator.Options options = LoadGenerator.Options.fromSystemProperties();
+        LoadGenerator generator = new LoadGenerator("http://localhost:" + port, createApiKey(), options);
+
+        // when
+        List<LoadGenerator.Result> results = generator.run();
+
+        // then
+        print(options, results);
+        Path report = Path.of(System.getProperty("loadtest.report", "target/load-test-report.json"));
+        new ObjectMapper().registerModule(new JavaTimeModule())
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .writeValue(report.toFile(), Map.of("options", options, "results", results));
+        long operations = results.stream().mapToLong(LoadGenerator.Result::count).sum();
+        long errors = results.stream().mapToLong(LoadGenerator.Result::errors).sum();
+        assertThat(operations).isPositive();
+        assertThat((double) errors / operations)
+                .isLessThanOrEqualTo(Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01")));
+    }
+
+    private String createApiKey() {
+        User user = userRepository.save(User.builder()
+                .id(UUID.randomUUID())
+                .email("load-test@example.com")
+                .passwordHash("-")
+                .build());
+        String rawKey = UUID.randomUUID().toString();
+        apiKeyRepository.save(ApiKey.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .keyHash(ApiKeyAuthenticationCache.digest(rawKey))
+                .name("load-test")
+                .isActive(true)
+                .build());
+        return rawKey;
+    }
+
+    private static void print(LoadGenerator.Options options, List<LoadGenerator.Result> results) {
+        System.out.printf("%nprovider=%s concurrency=%d duration=%s mix=%s sizes=%s%n", options.provider(),
+                options.concurrency(), options.duration(), options.mix(), options.sizes());
+        System.out.printf("%-10s %10s %10s %10s %10s %10s %10s %10s %8s%n",
+                "operation", "count", "ops/s", "MiB/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+        for (LoadGenerator.Result result : results) {
+            System.out.printf("%-10s %10d %10.1f %10.1f %10.2f %10.2f %10.2f %10.2f %8d%n", result.operation(),
+                    result.count(), result.throughput(), result.mebibytesPerSecond(), result.p50Millis(),
+                    result.p99Millis(), result.p999Millis(), result.maxMillis(), result.errors());
+        }
+    }
+
+    private static FakeS3Server startS3() {
+        try {
+            return new FakeS3Server();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
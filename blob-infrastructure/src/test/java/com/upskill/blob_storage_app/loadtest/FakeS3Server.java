@@ -0,0 +1,379 @@
+package com.upskill.blob_storage_app.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An in-memory, S3-compatible endpoint covering what the S3 adapters call: put, ranged get,
+ * delete and batch delete, ListObjectsV2, and multipart uploads. Path-style only, requests are
+ * not authenticated and objects live on the heap, so size a load test's object mix to fit.
+ * Bodies may arrive aws-chunked (the SDK's streaming checksums); the framing is stripped.
+ */
+public class FakeS3Server implements AutoCloseable {
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+
+    private record StoredObject(byte[] content, String eTag, String contentType, Instant lastModified) {
+    }
+
+    private record MultipartUpload(String key, Instant initiated, Map<Integer, byte[]> parts) {
+    }
+
+    private final Map<String, NavigableMap<String, StoredObject>> buckets = new ConcurrentHashMap<>();
+    private final Map<String, MultipartUpload> uploads = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+
+    public FakeS3Server() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int objectCount() {
+        return buckets.values().stream().mapToInt(Map::size).sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            try {
+                route(exchange);
+            } catch (RuntimeException e) {
+                error(exchange, 500, "InternalError", String.valueOf(e.getMessage()));
+            }
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        // /bucket or /bucket/key, with the key already percent-decoded
+        String path = exchange.getRequestURI().getPath().substring(1);
+        int slash = path.indexOf('/');
+        String bucket = slash < 0 ? path : path.substring(0, slash);
+        String key = slash < 0 ? "" : path.substring(slash + 1);
+        Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+        NavigableMap<String, StoredObject> objects = buckets.computeIfAbsent(bucket, name -> new ConcurrentSkipListMap<>());
+        String method = exchange.getRequestMethod();
+
+        if (key.isEmpty()) {
+            if ("GET".equals(method) && query.containsKey("uploads")) {
+                listMultipartUploads(exchange, bucket);
+            } else if ("GET".equals(method)) {
+                listObjects(exchange, bucket, objects, query);
+            } else if ("POST".equals(method) && query.containsKey("delete")) {
+                deleteObjects(exchange, objects);
+            } else {
+                error(exchange, 501, "NotImplemented", method + " on a bucket");
+            }
+            return;
+        }
+        switch (method) {
+            case "PUT" -> {
+                if (query.containsKey("uploadId")) {
+                    uploadPart(exchange, query);
+                } else {
+                    putObject(exchange, objects, key);
+                }
+            }
+            case "GET" -> getObject(exchange, objects, key, false);
+            case "HEAD" -> getObject(exchange, objects, key, true);
+            case "DELETE" -> {
+                if (query.containsKey("uploadId")) {
+                    uploads.remove(query.get("uploadId"));
+                } else {
+                    objects.remove(key);
+                }
+                exchange.sendResponseHeaders(204, -1);
+            }
+            case "POST" -> {
+                if (query.containsKey("uploads")) {
+                    String uploadId = UUID.randomUUID().toString();
+                    uploads.put(uploadId, new MultipartUpload(key, Instant.now(), new ConcurrentHashMap<>()));
+                    xml(exchange, 200, "<InitiateMultipartUploadResult><Bucket>" + escape(bucket) + "</Bucket><Key>"
+                            + escape(key) + "</Key><UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+                } else if (query.containsKey("uploadId")) {
+                    completeMultipartUpload(exchange, objects, bucket, key, query.get("uploadId"));
+                } else {
+                    error(exchange, 501, "NotImplemented", "POST on an object");
+                }
+            }
+            default -> error(exchange, 405, "MethodNotAllowed", method);
+        }
+    }
+
+    private void putObject(HttpExchange exchange, NavigableMap<String, StoredObject> objects, String key) throws IOException {
+        byte[] content = body(exchange);
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        StoredObject object = new StoredObject(content, quote(md5(content)),
+                contentType == null ? "binary/octet-stream" : contentType, Instant.now());
+        objects.put(key, object);
+        exchange.getResponseHeaders().set("ETag", object.eTag());
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void getObject(HttpExchange exchange, NavigableMap<String, StoredObject> objects, String key, boolean head) throws IOException {
+        StoredObject object = objects.get(key);
+        if (object == null) {
+            error(exchange, 404, "NoSuchKey", key);
+            return;
+        }
+        String ifMatch = exchange.getRequestHeaders().getFirst("If-Match");
+        if (ifMatch != null && !ifMatch.equals(object.eTag())) {
+            error(exchange, 412, "PreconditionFailed", key);
+            return;
+        }
+        long length = object.content().length;
+        long start = 0;
+        long end = length - 1;
+        int status = 200;
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        if (range != null && range.startsWith("bytes=") && length > 0) {
+            String[] bounds = range.substring("bytes=".length()).split("-", 2);
+            start = Long.parseLong(bounds[0]);
+            end = bounds[1].isEmpty() ? length - 1 : Math.min(Long.parseLong(bounds[1]), length - 1);
+            if (start >= length) {
+                error(exchange, 416, "InvalidRange", range);
+                return;
+            }
+            status = 206;
+            exchange.getResponseHeaders().set("Content-Range", "bytes " + start + "-" + end + "/" + length);
+        }
+        exchange.getResponseHeaders().set("ETag", object.eTag());
+        exchange.getResponseHeaders().set("Content-Type", object.contentType());
+        exchange.getResponseHeaders().set("Last-Modified", HTTP_DATE.format(object.lastModified()));
+        exchange.getResponseHeaders().set("Accept-Ranges", "bytes");
+        long count = end - start + 1;
+        if (head) {
+            exchange.getResponseHeaders().set("Content-Length", String.valueOf(length));
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, count == 0 ? -1 : count);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(object.content(), (int) start, (int) count);
+        }
+    }
+
+    private void listObjects(HttpExchange exchange, String bucket, NavigableMap<String, StoredObject> objects,
+                             Map<String, String> query) throws IOException {
+        String prefix = query.getOrDefault("prefix", "");
+        String delimiter = query.get("delimiter");
+        int maxKeys = Integer.parseInt(query.getOrDefault("max-keys", "1000"));
+        String after = query.getOrDefault("continuation-token", query.get("start-after"));
+        StringBuilder contents = new StringBuilder();
+        Set<String> commonPrefixes = new LinkedHashSet<>();
+        int count = 0;
+        String last = null;
+        boolean truncated = false;
+        NavigableMap<String, StoredObject> candidates = after == null ? objects.tailMap(prefix, true) : objects.tailMap(after, false);
+        for (Map.Entry<String, StoredObject> entry : candidates.entrySet()) {
+            String key = entry.getKey();
+            if (!key.startsWith(prefix)) {
+                break;
+            }
+            if (count == maxKeys) {
+                truncated = true;
+                break;
+            }
+            last = key;
+            int next = delimiter == null ? -1 : key.indexOf(delimiter, prefix.length());
+            if (next >= 0) {
+                if (commonPrefixes.add(key.substring(0, next + delimiter.length()))) {
+                    count++;
+                }
+                continue;
+            }
+            StoredObject object = entry.getValue();
+            contents.append("<Contents><Key>").append(escape(key)).append("</Key><LastModified>")
+                    .append(object.lastModified()).append("</LastModified><ETag>").append(escape(object.eTag()))
+                    .append("</ETag><Size>").append(object.content().length).append("</Size><StorageClass>STANDARD</StorageClass></Contents>");
+            count++;
+        }
+        StringBuilder body = new StringBuilder("<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">")
+                .append("<Name>").append(escape(bucket)).append("</Name><Prefix>").append(escape(prefix)).append("</Prefix>")
+                .append("<KeyCount>").append(count).append("</KeyCount><MaxKeys>").append(maxKeys).append("</MaxKeys>")
+                .append("<IsTruncated>").append(truncated).append("</IsTruncated>");
+        if (truncated) {
+            body.append("<NextContinuationToken>").append(escape(last)).append("</NextContinuationToken>");
+        }
+        body.append(contents);
+        commonPrefixes.forEach(common -> body.append("<CommonPrefixes><Prefix>").append(escape(common)).append("</Prefix></CommonPrefixes>"));
+        xml(exchange, 200, body.append("</ListBucketResult>").toString());
+    }
+
+    private void deleteObjects(HttpExchange exchange, NavigableMap<String, StoredObject> objects) throws IOException {
+        NodeList keys = parse(body(exchange)).getElementsByTagName("Key");
+        StringBuilder body = new StringBuilder("<DeleteResult>");
+        for (int i = 0; i < keys.getLength(); i++) {
+            String key = keys.item(i).getTextContent();
+            objects.remove(key);
+            body.append("<Deleted><Key>").append(escape(key)).append("</Key></Deleted>");
+        }
+        xml(exchange, 200, body.append("</DeleteResult>").toString());
+    }
+
+    private void uploadPart(HttpExchange exchange, Map<String, String> query) throws IOException {
+        MultipartUpload upload = uploads.get(query.get("uploadId"));
+        if (upload == null) {
+            error(exchange, 404, "NoSuchUpload", query.get("uploadId"));
+            return;
+        }
+        byte[] content = body(exchange);
+        upload.parts().put(Integer.parseInt(query.get("partNumber")), content);
+        exchange.getResponseHeaders().set("ETag", quote(md5(content)));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void completeMultipartUpload(HttpExchange exchange, NavigableMap<String, StoredObject> objects, String bucket,
+                                         String key, String uploadId) throws IOException {
+        MultipartUpload upload = uploads.remove(uploadId);
+        if (upload == null) {
+            error(exchange, 404, "NoSuchUpload", uploadId);
+            return;
+        }
+        NodeList parts = parse(body(exchange)).getElementsByTagName("PartNumber");
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        ByteArrayOutputStream partDigests = new ByteArrayOutputStream();
+        for (int i = 0; i < parts.getLength(); i++) {
+            byte[] part = upload.parts().get(Integer.parseInt(parts.item(i).getTextContent().trim()));
+            if (part == null) {
+                error(exchange, 400, "InvalidPart", parts.item(i).getTextContent());
+                return;
+            }
+            content.writeBytes(part);
+            partDigests.writeBytes(HexFormat.of().parseHex(md5(part)));
+        }
+        String eTag = quote(md5(partDigests.toByteArray()) + "-" + parts.getLength());
+        objects.put(key, new StoredObject(content.toByteArray(), eTag, "binary/octet-stream", Instant.now()));
+        xml(exchange, 200, "<CompleteMultipartUploadResult><Bucket>" + escape(bucket) + "</Bucket><Key>" + escape(key)
+                + "</Key><ETag>" + escape(eTag) + "</ETag></CompleteMultipartUploadResult>");
+    }
+
+    private void listMultipartUploads(HttpExchange exchange, String bucket) throws IOException {
+        StringBuilder body = new StringBuilder("<ListMultipartUploadsResult><Bucket>").append(escape(bucket))
+                .append("</Bucket><IsTruncated>false</IsTruncated>");
+        uploads.forEach((uploadId, upload) -> body.append("<Upload><Key>").append(escape(upload.key()))
+                .append("</Key><UploadId>").append(uploadId).append("</UploadId><Initiated>").append(upload.initiated())
+                .append("</Initiated></Upload>"));
+        xml(exchange, 200, body.append("</ListMultipartUploadsResult>").toString());
+    }
+
+    // aws-chunked framing: <hex size>[;chunk-signature=...]\r\n<data>\r\n ... 0\r\n<trailers>\r\n\r\n
+    private static byte[] body(HttpExchange exchange) throws IOException {
+        byte[] raw = exchange.getRequestBody().readAllBytes();
+        String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        String decodedLength = exchange.getRequestHeaders().getFirst("x-amz-decoded-content-length");
+        if (decodedLength == null && (encoding == null || !encoding.contains("aws-chunked"))) {
+            return raw;
+        }
+        InputStream in = new ByteArrayInputStream(raw);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        while (true) {
+            String header = line(in);
+            int size = Integer.parseInt(header.split(";", 2)[0].trim(), 16);
+            if (size == 0) {
+                return out.toByteArray();
+            }
+            out.write(in.readNBytes(size));
+            line(in);
+        }
+    }
+
+    private static String line(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int c = in.read(); c != -1 && c != '\n'; c = in.read()) {
+            if (c != '\r') {
+                line.append((char) c);
+            }
+        }
+        return line.toString();
+    }
+
+    private static Document parse(byte[] xml) {
+        try {
+            return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(xml));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Malformed XML body", e);
+        }
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static void xml(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void error(HttpExchange exchange, int status, String code, String message) throws IOException {
+        xml(exchange, status, "<Error><Code>" + code + "</Code><Message>" + escape(message) + "</Message></Error>");
+    }
+
+    private static String md5(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,278 @@
+package com.upskill.blob_storage_app.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop workload against the servlet API: every worker picks an operation from the
+ * configured mix, waits for the response and goes again. Latencies are recorded per operation
+ * in HDR histograms, so the tail percentiles are exact to three significant digits.
+ *
+ * <p>Downloads and deletes pick a random blob the run itself uploaded; with none left they upload
+ * instead. A download can still race a concurrent delete of the same blob and count as an error.
+ */
+public class LoadGenerator {
+
+    public enum Operation {
+        UPLOAD, DOWNLOAD, LIST, DELETE
+    }
+
+    /**
+     * @param mix   relative weight of each operation
+     * @param sizes upload size in bytes to relative weight
+     */
+    public record Options(String provider, int concurrency, Duration warmup, Duration duration,
+                          Map<Operation, Integer> mix, Map<Long, Integer> sizes, int seedBlobs) {
+
+        // loadtest.mix=upload:20,download:60,list:10,delete:10 and loadtest.sizes=4KB:60,256KB:30,4MB:10
+        public static Options fromSystemProperties() {
+            Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+            weights(System.getProperty("loadtest.mix", "upload:20,download:60,list:10,delete:10"))
+                    .forEach((name, weight) -> mix.put(Operation.valueOf(name.toUpperCase()), weight));
+            Map<Long, Integer> sizes = new LinkedHashMap<>();
+            weights(System.getProperty("loadtest.sizes", "4KB:60,256KB:30,4MB:10"))
+                    .forEach((size, weight) -> sizes.put(DataSize.parse(size).toBytes(), weight));
+            return new Options(
+                    System.getProperty("loadtest.provider", "S3").toUpperCase(),
+                    Integer.getInteger("loadtest.concurrency", 32),
+                    Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                    Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+                    mix, sizes,
+                    Integer.getInteger("loadtest.seed-blobs", 200));
+        }
+
+        private static Map<String, Integer> weights(String spec) {
+            Map<String, Integer> weights = new LinkedHashMap<>();
+            for (String entry : spec.split(",")) {
+                String[] parts = entry.trim().split(":", 2);
+                weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+            }
+            return weights;
+        }
+    }
+
+    public record Result(Operation operation, long count, long errors, long bytes, double seconds,
+                         double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+
+        public double throughput() {
+            return count / seconds;
+        }
+
+        public double mebibytesPerSecond() {
+            return bytes / seconds / (1024 * 1024);
+        }
+    }
+
+    private static final String BOUNDARY = "load-test-boundary";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final String baseUrl;
+    private final String apiKey;
+    private final Options options;
+    private final Map<Operation, Recorder> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> bytes = new EnumMap<>(Operation.class);
+    private final List<String> blobIds = new ArrayList<>();
+    private final Map<Long, byte[]> payloads = new LinkedHashMap<>();
+
+    public LoadGenerator(String baseUrl, String apiKey, Options options) {
+        this.baseUrl = baseUrl;
+        this.apiKey = apiKey;
+        this.options = options;
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+            bytes.put(operation, new LongAdder());
+        }
+        for (long size : options.sizes().keySet()) {
+            byte[] payload = new byte[Math.toIntExact(size)];
+            ThreadLocalRandom.current().nextBytes(payload);
+            payloads.put(size, payload);
+        }
+    }
+
+    public List<Result> run() throws InterruptedException {
+        for (int i = 0; i < options.seedBlobs(); i++) {
+            execute(Operation.UPLOAD);
+        }
+        drive(options.warmup());
+        reset();
+        long start = System.nanoTime();
+        drive(options.duration());
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        List<Result> results = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation).getIntervalHistogram();
+            results.add(new Result(operation, histogram.getTotalCount(), errors.get(operation).sum(),
+                    bytes.get(operation).sum(), seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue())));
+        }
+        return results;
+    }
+
+    private void drive(Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                workers.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        execute(pick(options.mix()));
+                    }
+                });
+            }
+            workers.shutdown();
+            if (!workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Workers did not finish within a minute of the deadline");
+            }
+        }
+    }
+
+    private void reset() {
+        for (Operation operation : Operation.values()) {
+            latencies.get(operation).reset();
+            errors.get(operation).reset();
+            bytes.get(operation).reset();
+        }
+    }
+
+    private void execute(Operation operation) {
+        String blobId = null;
+        if (operation == Operation.DOWNLOAD || operation == Operation.DELETE) {
+            blobId = operation == Operation.DELETE ? takeBlob() : anyBlob();
+            if (blobId == null) {
+                operation = Operation.UPLOAD;
+            }
+        }
+        long start = System.nanoTime();
+        try {
+            long transferred = switch (operation) {
+                case UPLOAD -> upload();
+                case DOWNLOAD -> download(blobId);
+                case LIST -> list();
+                case DELETE -> delete(blobId);
+            };
+            bytes.get(operation).add(transferred);
+        } catch (IOException | RuntimeException e) {
+            errors.get(operation).increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        // Errors are timed too; a failing operation that is fast must not flatter the tail
+        latencies.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+    }
+
+    private long upload() throws IOException, InterruptedException {
+        byte[] payload = payloads.get(pick(options.sizes()));
+        byte[] head = ("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"file\"; filename=\"load-"
+                + payload.length + ".bin\"\r\nContent-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] tail = ("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        HttpResponse<String> response = client.send(request("/api/v1/blobs")
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.concat(
+                        HttpRequest.BodyPublishers.ofByteArray(head),
+                        HttpRequest.BodyPublishers.ofByteArray(payload),
+                        HttpRequest.BodyPublishers.ofByteArray(tail)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        check(response);
+        synchronized (blobIds) {
+            blobIds.add(response.body());
+        }
+        return payload.length;
+    }
+
+    private long download(String blobId) throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = client.send(request("/api/v1/blobs/" + blobId).GET().build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            long received = body.transferTo(OutputStream.nullOutputStream());
+            check(response);
+            return received;
+        }
+    }
+
+    private long list() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request("/api/v1/blobs?limit=100").GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        check(response);
+        return response.body().length();
+    }
+
+    private long delete(String blobId) throws IOException, InterruptedException {
+        check(client.send(request("/api/v1/blobs/" + blobId).DELETE().build(), HttpResponse.BodyHandlers.discarding()));
+        return 0;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofMinutes(2))
+                .header("X-API-Key", apiKey)
+                .header("X-Storage-Provider", options.provider());
+    }
+
+    private static void check(HttpResponse<?> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + " from " + response.request().uri());
+        }
+    }
+
+    private String anyBlob() {
+        synchronized (blobIds) {
+            return blobIds.isEmpty() ? null : blobIds.get(ThreadLocalRandom.current().nextInt(blobIds.size()));
+        }
+    }
+
+    // Swap-remove, so the pool never shifts
+    private String takeBlob() {
+        synchronized (blobIds) {
+            if (blobIds.isEmpty()) {
+                return null;
+            }
+            int index = ThreadLocalRandom.current().nextInt(blobIds.size());
+            String last = blobIds.removeLast();
+            return index == blobIds.size() ? last : blobIds.set(index, last);
+        }
+    }
+
+    private static <T> T pick(Map<T, Integer> weights) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        int point = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<T, Integer> entry : weights.entrySet()) {
+            point -= entry.getValue();
+            if (point < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty weights");
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
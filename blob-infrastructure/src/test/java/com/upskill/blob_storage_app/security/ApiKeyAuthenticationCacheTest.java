@@ -0,0 +1,87 @@
+package com.upskill.blob_storage_app.security;
+
+import com.upskill.blob_storage_app.entity.ApiKey;
+import com.upskill.blob_storage_app.entity.User;
+import com.upskill.blob_storage_app.event.ApiKeyRevokedEvent;
+import com.upskill.blob_storage_app.repository.ApiKeyRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ApiKeyAuthenticationCacheTest {
+
+    private static final String RAW_KEY = "raw-api-key";
+
+    private final ApiKeyRepository repository = mock(ApiKeyRepository.class);
+    private final ApiKeyAuthenticationCache cache =
+            new ApiKeyAuthenticationCache(repository, 100, Duration.ofMinutes(5), Duration.ofSeconds(30));
+
+    @Test
+    void shouldLookUpByDigestOnlyOnce() {
+        // given
+        String digest = ApiKeyAuthenticationCache.digest(RAW_KEY);
+        when(repository.findByKeyHash(digest)).thenReturn(Optional.of(apiKey(true, null)));
+
+        // when
+        cache.authenticate(RAW_KEY);
+        Optional<ApiKeyAuthenticationCache.CachedApiKey> second = cache.authenticate(RAW_KEY);
+
+        // then
+        assertThat(second).isPresent();
+        assertThat(digest).hasSize(64).isNotEqualTo(RAW_KEY);
+        verify(repository, times(1)).findByKeyHash(digest);
+        verify(repository, never()).findByKeyHash(RAW_KEY);
+    }
+
+    @Test
+    void shouldRejectInactiveAndExpiredKeys() {
+        // given
+        when(repository.findByKeyHash(ApiKeyAuthenticationCache.digest("inactive")))
+                .thenReturn(Optional.of(apiKey(false, null)));
+        when(repository.findByKeyHash(ApiKeyAuthenticationCache.digest("expired")))
+                .thenReturn(Optional.of(apiKey(true, Instant.now().minusSeconds(1))));
+
+        // when / then
+        assertThat(cache.authenticate("inactive")).isEmpty();
+        assertThat(cache.authenticate("expired")).isEmpty();
+    }
+
+    @Test
+    void shouldCacheUnknownKeysAndReloadAfterRevocation() {
+        // given
+        when(repository.findByKeyHash(anyString())).thenReturn(Optional.empty());
+        cache.authenticate(RAW_KEY);
+        cache.authenticate(RAW_KEY);
+
+        // when
+        cache.onApiKeyRevoked(new ApiKeyRevokedEvent(ApiKeyAuthenticationCache.digest(RAW_KEY)));
+        cache.authenticate(RAW_KEY);
+
+        // then
+        verify(repository, times(2)).findByKeyHash(anyString());
+    }
+
+    private static ApiKey apiKey(boolean active, Instant expiresAt) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        return ApiKey.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .keyHash("hash")
+                .name("test")
+                .isActive(active)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
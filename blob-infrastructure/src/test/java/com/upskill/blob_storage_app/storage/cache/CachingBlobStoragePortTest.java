@@ -0,0 +1,150 @@
+package com.upskill.blob_storage_app.storage.cache;
+
+import com.upskill.blob_storage_app.controller.BlobContentWriter;
+import com.upskill.blob_storage_app.dto.BlobDownload;
+import com.upskill.blob_storage_app.port.output.BlobContent;
+import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.port.output.FileBlobContent;
+import com.upskill.blob_storage_app.port.output.StreamBlobContent;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingBlobStoragePortTest {
+
+    @TempDir
+    Path cacheDirectory;
+
+    private final BlobStoragePort delegate = mock(BlobStoragePort.class);
+    private CachingBlobStoragePort port;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        TieredBlobContentCache cache = new TieredBlobContentCache(DataSize.ofKilobytes(64), DataSize.ofKilobytes(1),
+                cacheDirectory.toString(), DataSize.ofMegabytes(1), DataSize.ofKilobytes(512));
+        cache.init();
+        port = new CachingBlobStoragePort(delegate, cache);
+    }
+
+    @Test
+    void shouldServeSmallObjectsFromMemoryAfterFirstDownload() throws IOException {
+        // given
+        byte[] content = randomBytes(100);
+        when(delegate.download(anyString(), eq(StorageProvider.S3))).thenAnswer(invocation -> stream(content));
+
+        // when
+        byte[] first = read(port.download("small", StorageProvider.S3));
+        byte[] second = read(port.download("small", StorageProvider.S3));
+
+        // then
+        assertThat(first).isEqualTo(content);
+        assertThat(second).isEqualTo(content);
+        verify(delegate, times(1)).download("small", StorageProvider.S3);
+    }
+
+    @Test
+    void shouldTeeLargerObjectsToDiskAndServeRangesFromTheFile() throws IOException {
+        // given
+        byte[] content = randomBytes(100_000);
+        when(delegate.download(anyString(), eq(StorageProvider.S3))).thenAnswer(invocation -> stream(content));
+        read(port.download("large", StorageProvider.S3));
+
+        // when
+        BlobContent range = port.download("large", 10, 20, StorageProvider.S3);
+
+        // then
+        assertThat(range).isInstanceOf(FileBlobContent.class);
+        assertThat(read(range)).isEqualTo(Arrays.copyOfRange(content, 10, 30));
+        verify(delegate, times(1)).download("large", StorageProvider.S3);
+    }
+
+    @Test
+    void shouldStreamDiskHitsRatherThanHandThemToSendfile() throws Exception {
+        // given
+        byte[] content = randomBytes(100_000);
+        when(delegate.download(anyString(), eq(StorageProvider.S3))).thenAnswer(invocation -> stream(content));
+        read(port.download("large", StorageProvider.S3));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/blobs/blob-1");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        BlobStoragePort evictingPort = mock(BlobStoragePort.class);
+        when(evictingPort.download("large", StorageProvider.S3)).thenAnswer(invocation -> {
+            FileBlobContent hit = (FileBlobContent) port.download("large", StorageProvider.S3);
+            // Evicted after the hit was opened but before the response is written
+            Files.delete(hit.getPath());
+            return hit;
+        });
+
+        // when
+        new BlobContentWriter().write(BlobDownload.builder()
+                .blobId("blob-1")
+                .filename("large.bin")
+                .contentType("application/octet-stream")
+                .size(content.length)
+                .storedSize(content.length)
+                .lastModified(Instant.now())
+                .storage(evictingPort)
+                .storageLocation("large")
+                .storageProvider(StorageProvider.S3)
+                .build(), request, response);
+
+        // then
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    void shouldEvictOnDelete() throws IOException {
+        // given
+        byte[] content = randomBytes(100);
+        when(delegate.download(anyString(), eq(StorageProvider.S3))).thenAnswer(invocation -> stream(content));
+        read(port.download("small", StorageProvider.S3));
+
+        // when
+        port.delete("small", StorageProvider.S3);
+        read(port.download("small", StorageProvider.S3));
+
+        // then
+        verify(delegate).delete("small", StorageProvider.S3);
+        verify(delegate, times(2)).download("small", StorageProvider.S3);
+    }
+
+    private static BlobContent stream(byte[] content) {
+        return new StreamBlobContent(new ByteArrayInputStream(content), content.length);
+    }
+
+    private static byte[] read(BlobContent content) throws IOException {
+        try (content) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            content.transferTo(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,149 @@
+package com.upskill.blob_storage_app.storage.local;
+
+import com.upskill.blob_storage_app.exception.BlobStorageException;
+import com.upskill.blob_storage_app.port.output.StagedUpload;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalStorageAdapterTest {
+
+    @TempDir
+    Path basePath;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private LocalStorageAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new LocalStorageAdapter(executor, new LocalUrlSigner("secret", "http://localhost:8080", ""));
+        ReflectionTestUtils.setField(adapter, "basePath", basePath.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldStoreUploadsUnderShardedKeys() {
+        // when
+        String key = upload("report.txt");
+
+        // then
+        String[] segments = key.split("/");
+        assertThat(segments).hasSize(4);
+        assertThat(segments[2]).startsWith(segments[0] + segments[1]);
+        assertThat(segments[3]).isEqualTo("report.txt");
+        assertThat(basePath.resolve(key)).exists();
+    }
+
+    @Test
+    void shouldListOnlyKeysUnderPrefix() {
+        // given
+        String key = upload("a.txt");
+        upload("b.txt");
+        String shardPrefix = key.substring(0, key.lastIndexOf('/') + 1);
+
+        // when / then
+        assertThat(adapter.list(shardPrefix, StorageProvider.LOCAL)).containsExactly(key);
+        assertThat(adapter.list("zz/none/", StorageProvider.LOCAL)).isEmpty();
+    }
+
+    @Test
+    void shouldRollUpDirectoriesWhenListingWithDelimiter() {
+        // given
+        String key = upload("a.txt");
+        String firstShard = key.substring(0, key.indexOf('/') + 1);
+
+        // when
+        List<String> top;
+        try (Stream<String> keys = adapter.streamKeys("", "/", StorageProvider.LOCAL)) {
+            top = keys.toList();
+        }
+
+        // then
+        assertThat(top).containsExactly(firstShard);
+    }
+
+    @Test
+    void shouldDeleteAllFilesAndReportNone() {
+        // given
+        List<String> keys = List.of(upload("a.txt"), upload("b.txt"), upload("c.txt"));
+
+        // when
+        Map<String, String> failures = adapter.deleteAll(keys, StorageProvider.LOCAL);
+
+        // then
+        assertThat(failures).isEmpty();
+        keys.forEach(key -> assertThat(basePath.resolve(key)).doesNotExist());
+    }
+
+    @Test
+    void shouldAssembleStagedPartsInPartOrderAndHideThemFromListings() throws Exception {
+        // given
+        StagedUpload staged = adapter.beginStaged("video.bin", "application/octet-stream", StorageProvider.LOCAL);
+        String second = adapter.uploadPart(staged, 2, new ByteArrayInputStream("world".getBytes()), 5, StorageProvider.LOCAL);
+        String first = adapter.uploadPart(staged, 1, new ByteArrayInputStream("hello ".getBytes()), 6, StorageProvider.LOCAL);
+        try (Stream<String> keys = adapter.streamKeys("", null, StorageProvider.LOCAL)) {
+            assertThat(keys).isEmpty();
+        }
+
+        // when
+        adapter.completeStaged(staged, List.of(first, second), StorageProvider.LOCAL);
+
+        // then
+        assertThat(Files.readString(basePath.resolve(staged.location()))).isEqualTo("hello world");
+        assertThat(adapter.list("", StorageProvider.LOCAL)).containsExactly(staged.location());
+        assertThatThrownBy(() -> adapter.uploadPart(staged, 1, new ByteArrayInputStream(new byte[1]), 1, StorageProvider.LOCAL))
+                .isInstanceOf(BlobStorageException.class);
+    }
+
+    @Test
+    void shouldAcceptOnlyUnalteredUnexpiredSignedPartUrls() {
+        // given
+        StagedUpload staged = adapter.beginStaged("movie.mp4", "video/mp4", StorageProvider.LOCAL);
+        Map<String, String> params = queryParams(adapter.presignPart(staged, 2, 1024, Duration.ofMinutes(5), StorageProvider.LOCAL));
+        Map<String, String> tampered = new HashMap<>(params);
+        tampered.put("length", "4096");
+        Map<String, String> expired = queryParams(adapter.presignPart(staged, 2, 1024, Duration.ofMinutes(-1), StorageProvider.LOCAL));
+
+        // when / then
+        assertThat(adapter.verifyPart(params)).contains(new LocalStorageAdapter.SignedPart(staged, 2, 1024));
+        assertThat(adapter.verifyPart(tampered)).isEmpty();
+        assertThat(adapter.verifyPart(expired)).isEmpty();
+        assertThat(adapter.verifyDownload(params)).isEmpty();
+    }
+
+    private Map<String, String> queryParams(String url) {
+        Map<String, String> params = new HashMap<>();
+        UriComponentsBuilder.fromUriString(url).build().getQueryParams()
+                .forEach((name, values) -> params.put(name, URLDecoder.decode(values.get(0), StandardCharsets.UTF_8)));
+        return params;
+    }
+
+    private String upload(String filename) {
+        byte[] content = filename.getBytes();
+        return adapter.upload(new ByteArrayInputStream(content), content.length, filename, "text/plain", StorageProvider.LOCAL);
+    }
+}
@@ -0,0 +1,98 @@
+package com.upskill.blob_storage_app.storage.metrics;
+
+import com.upskill.blob_storage_app.exception.BlobStorageException;
+import com.upskill.blob_storage_app.port.output.BlobContent;
+import com.upskill.blob_storage_app.port.output.BlobStoragePort;
+import com.upskill.blob_storage_app.port.output.StreamBlobContent;
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InstrumentedBlobStoragePortTest {
+
+    private final BlobStoragePort delegate = mock(BlobStoragePort.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final InstrumentedBlobStoragePort port = new InstrumentedBlobStoragePort(delegate, registry, StorageProvider.S3);
+
+    @Test
+    void shouldTimeUploadsAndCountTheBytesTheProviderConsumed() {
+        // given
+        when(delegate.upload(any(), anyLong(), anyString(), anyString(), eq(StorageProvider.S3))).thenAnswer(invocation -> {
+            invocation.getArgument(0, InputStream.class).readAllBytes();
+            return "location";
+        });
+
+        // when
+        port.upload(new ByteArrayInputStream(new byte[1000]), -1, "file.bin", "application/octet-stream", StorageProvider.S3);
+
+        // then
+        assertThat(registry.get("blob.storage.requests")
+                .tags("provider", "S3", "operation", "upload", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("blob.storage.bytes.written").tags("operation", "upload").counter().count()).isEqualTo(1000);
+        assertThat(registry.get("blob.storage.active").tags("operation", "upload").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldCountErrorsByExceptionType() {
+        // given
+        when(delegate.download("missing", StorageProvider.S3)).thenThrow(new BlobStorageException("Not found"));
+
+        // when / then
+        assertThatThrownBy(() -> port.download("missing", StorageProvider.S3)).isInstanceOf(BlobStorageException.class);
+        assertThat(registry.get("blob.storage.requests")
+                .tags("operation", "download", "outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(registry.get("blob.storage.errors")
+                .tags("operation", "download", "exception", "BlobStorageException").counter().count()).isEqualTo(1);
+        assertThat(registry.get("blob.storage.active").tags("operation", "download").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldCountDownloadedBytesOnceTheCallerHasStreamedThem() throws IOException {
+        // given
+        when(delegate.download("location", StorageProvider.S3))
+                .thenReturn(new StreamBlobContent(new ByteArrayInputStream(new byte[500]), 500));
+
+        // when
+        try (BlobContent content = port.download("location", StorageProvider.S3)) {
+            content.transferTo(OutputStream.nullOutputStream());
+        }
+
+        // then
+        assertThat(registry.get("blob.storage.bytes.read").tags("operation", "download").counter().count()).isEqualTo(500);
+    }
+
+    @Test
+    void shouldKeepAListingInFlightUntilItsStreamIsClosed() {
+        // given
+        when(delegate.streamKeys("prefix/", null, StorageProvider.S3)).thenReturn(Stream.of("prefix/a", "prefix/b"));
+
+        // when
+        Stream<String> keys = port.streamKeys("prefix/", null, StorageProvider.S3);
+        List<String> listed = keys.toList();
+        double activeBeforeClose = registry.get("blob.storage.active").tags("operation", "list").gauge().value();
+        keys.close();
+
+        // then
+        assertThat(listed).containsExactly("prefix/a", "prefix/b");
+        assertThat(activeBeforeClose).isEqualTo(1);
+        assertThat(registry.get("blob.storage.active").tags("operation", "list").gauge().value()).isZero();
+        assertThat(registry.get("blob.storage.requests")
+                .tags("operation", "list", "outcome", "success").timer().count()).isEqualTo(1);
+    }
+}
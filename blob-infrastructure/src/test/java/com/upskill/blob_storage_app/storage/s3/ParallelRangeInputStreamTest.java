@@ -0,0 +1,131 @@
+package com.upskill.blob_storage_app.storage.s3;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelRangeInputStreamTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReassembleRangesInOrderWhenFetchesCompleteOutOfOrder() throws IOException {
+        // given
+        byte[] object = new byte[10_000];
+        new Random(42).nextBytes(object);
+        int rangeSize = 700;
+        ParallelRangeInputStream.RangeFetcher fetcher = (offset, length) -> {
+            sleepRandomly();
+            return Arrays.copyOfRange(object, (int) offset, (int) (offset + length));
+        };
+        ByteArrayInputStream firstRange = new ByteArrayInputStream(object, 0, rangeSize);
+
+        // when
+        byte[] read;
+        try (ParallelRangeInputStream in = new ParallelRangeInputStream(
+                firstRange, rangeSize, object.length, rangeSize, 3, fetcher, executor, new Semaphore(3))) {
+            read = in.readAllBytes();
+        }
+
+        // then
+        assertThat(read).isEqualTo(object);
+    }
+
+    @Test
+    void shouldSurfaceFetchFailureAsIOException() {
+        // given
+        ParallelRangeInputStream.RangeFetcher fetcher = (offset, length) -> {
+            throw new IOException("range " + offset + " failed");
+        };
+        ParallelRangeInputStream in = new ParallelRangeInputStream(
+                new ByteArrayInputStream(new byte[10]), 10, 30, 10, 2, fetcher, executor, new Semaphore(2));
+
+        // when / then
+        assertThatThrownBy(in::readAllBytes)
+                .isInstanceOf(IOException.class)
+                .hasMessage("range 10 failed");
+    }
+
+    @Test
+    void shouldStreamRangesInlineOnceTheSharedBudgetIsSpent() throws IOException {
+        // given
+        byte[] object = new byte[5_000];
+        new Random(7).nextBytes(object);
+        int rangeSize = 1_000;
+        Semaphore budget = new Semaphore(1);
+        AtomicInteger buffered = new AtomicInteger();
+        AtomicInteger streamed = new AtomicInteger();
+        ParallelRangeInputStream.RangeFetcher fetcher = new ParallelRangeInputStream.RangeFetcher() {
+            @Override
+            public byte[] fetch(long offset, long length) {
+                buffered.incrementAndGet();
+                return Arrays.copyOfRange(object, (int) offset, (int) (offset + length));
+            }
+
+            @Override
+            public InputStream open(long offset, long length) {
+                streamed.incrementAndGet();
+                return new ByteArrayInputStream(object, (int) offset, (int) length);
+            }
+        };
+        // Another download holds the only permit
+        budget.acquireUninterruptibly();
+
+        // when
+        byte[] read;
+        try (ParallelRangeInputStream in = new ParallelRangeInputStream(
+                new ByteArrayInputStream(object, 0, rangeSize), rangeSize, object.length, rangeSize, 4, fetcher, executor, budget)) {
+            read = in.readAllBytes();
+        }
+
+        // then
+        assertThat(read).isEqualTo(object);
+        assertThat(buffered).hasValue(0);
+        assertThat(streamed).hasValue(4);
+        budget.release();
+        assertThat(budget.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnEveryPermitOnceReadOrClosed() throws IOException {
+        // given
+        byte[] object = new byte[5_000];
+        Semaphore budget = new Semaphore(3);
+        ParallelRangeInputStream.RangeFetcher fetcher = (offset, length) -> new byte[(int) length];
+
+        // when
+        try (ParallelRangeInputStream in = new ParallelRangeInputStream(
+                new ByteArrayInputStream(object, 0, 1_000), 1_000, object.length, 1_000, 4, fetcher, executor, budget)) {
+            in.readNBytes(1_500);
+        }
+
+        // then
+        assertThat(budget.availablePermits()).isEqualTo(3);
+    }
+
+    private static void sleepRandomly() {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.upskill.blob_storage_app.storage.s3;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class S3KeyIteratorTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldFollowContinuationTokensAcrossPages() {
+        // given
+        List<String> requestedTokens = new CopyOnWriteArrayList<>();
+        S3KeyIterator.PageFetcher fetcher = token -> {
+            requestedTokens.add(String.valueOf(token));
+            return switch (String.valueOf(token)) {
+                case "null" -> page("t1", "a", "b");
+                case "t1" -> page("t2", "c");
+                default -> page(null, "d", "e");
+            };
+        };
+
+        // when
+        List<String> keys = new ArrayList<>();
+        try (S3KeyIterator iterator = new S3KeyIterator(fetcher, executor)) {
+            iterator.forEachRemaining(keys::add);
+        }
+
+        // then
+        assertThat(keys).containsExactly("a", "b", "c", "d", "e");
+        assertThat(requestedTokens).containsExactly("null", "t1", "t2");
+    }
+
+    @Test
+    void shouldMergeCommonPrefixesIntoKeyOrder() {
+        // given
+        ListObjectsV2Response page = ListObjectsV2Response.builder()
+                .isTruncated(false)
+                .contents(object("a.txt"), object("c.txt"))
+                .commonPrefixes(CommonPrefix.builder().prefix("b/").build(), CommonPrefix.builder().prefix("d/").build())
+                .build();
+
+        // when / then
+        assertThat(S3KeyIterator.keys(page)).containsExactly("a.txt", "b/", "c.txt", "d/");
+    }
+
+    private static ListObjectsV2Response page(String nextToken, String... keys) {
+        return ListObjectsV2Response.builder()
+                .isTruncated(nextToken != null)
+                .nextContinuationToken(nextToken)
+                .contents(Arrays.stream(keys).map(S3KeyIteratorTest::object).toList())
+                .build();
+    }
+
+    private static S3Object object(String key) {
+        return S3Object.builder().key(key).build();
+    }
+}
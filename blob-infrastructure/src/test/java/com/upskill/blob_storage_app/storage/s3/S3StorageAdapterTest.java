@@ -0,0 +1,67 @@
+package com.upskill.blob_storage_app.storage.s3;
+
+import com.upskill.blob_storage_app.valueobject.StorageProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3StorageAdapterTest {
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private S3StorageAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new S3StorageAdapter(s3Client, mock(S3Presigner.class), null, null, executor);
+        ReflectionTestUtils.setField(adapter, "bucketName", "bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldDeleteInChunksOfAThousandAndReportPerKeyErrors() {
+        // given
+        List<String> keys = IntStream.range(0, 2500).mapToObj(i -> "key-" + i).toList();
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenAnswer(invocation -> {
+            DeleteObjectsRequest request = invocation.getArgument(0);
+            assertThat(request.delete().objects()).hasSizeLessThanOrEqualTo(1000);
+            boolean containsFailingKey = request.delete().objects().stream().anyMatch(o -> o.key().equals("key-1500"));
+            return DeleteObjectsResponse.builder()
+                    .errors(containsFailingKey
+                            ? List.of(S3Error.builder().key("key-1500").code("AccessDenied").message("denied").build())
+                            : List.of())
+                    .build();
+        });
+
+        // when
+        Map<String, String> failures = adapter.deleteAll(keys, StorageProvider.S3);
+
+        // then
+        verify(s3Client, times(3)).deleteObjects(any(DeleteObjectsRequest.class));
+        assertThat(failures).containsOnlyKeys("key-1500");
+        assertThat(failures.get("key-1500")).isEqualTo("AccessDenied: denied");
+    }
+}